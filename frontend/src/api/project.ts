@@ -79,6 +79,29 @@ export const ProjectService = {
         };
     },
 
+    /**
+     * 获取项目场景数据（服务端流式输出，支持 gzip）
+     * @param {number | string} id - 项目ID
+     * @returns {Promise<any | null>} - 场景对象，未保存过场景时为 null
+     */
+    async getScene(id: number | string): Promise<any | null> {
+        return request.get<any, any>(`/projects/${id}/scene`);
+    },
+
+    /**
+     * 保存项目场景数据，请求体直接为场景 JSON 字符串
+     * @param {string} id - 项目ID
+     * @param {string} sceneData - 场景 JSON 字符串
+     * @returns {Promise<boolean>}
+     */
+    async saveScene(id: string, sceneData: string): Promise<boolean> {
+        return request.put(`/projects/${id}/scene`, sceneData, {
+            headers: {
+                'Content-Type': 'application/json'
+            }
+        });
+    },
+
     /**
      * 上传/更新项目封面缩略图
      * @param {string} id - 项目ID
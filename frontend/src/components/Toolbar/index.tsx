@@ -66,7 +66,7 @@ const Toolbar: React.FC = () => {
 
         try {
             // 提交场景 JSON
-            await ProjectService.updateProject(id, { sceneData });
+            await ProjectService.saveScene(id, sceneData);
 
             // 自动捕获当前视口画面并作为封面上传
             if (gl && scene && camera) {
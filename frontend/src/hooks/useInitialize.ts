@@ -44,9 +44,8 @@ export const useInitialize = () => {
                 // 根据 ID 加载云端或初始化本地场景
                 if (id) {
                     try {
-                        const project = await ProjectService.getById(id);
-                        if (project && project.sceneData) {
-                            const data = JSON.parse(project.sceneData);
+                        const data = await ProjectService.getScene(id);
+                        if (data) {
                             localStorage.setItem('sceneData', JSON.stringify(data));
                             setState({
                                 roamingNodes: data.roamingNodes || [],
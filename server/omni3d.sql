@@ -133,4 +133,31 @@ INSERT INTO `project` VALUES (4, '测试3', NULL, '/uploads/project_4_a8d1b3e6.p
 INSERT INTO `project` VALUES (5, '测试3', NULL, '/uploads/project_5_a3bb571f.png', 'draft', '{\"objects\":[{\"id\":\"0cb25277-722a-4b32-9457-988f2a918628\",\"name\":\"初始立方体\",\"type\":\"BOX\",\"position\":[0,0.5,-12],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"visible\":true,\"material\":{\"color\":\"#127190\",\"metalness\":1,\"roughness\":0,\"opacity\":\"0.4\",\"transparent\":false,\"wireframe\":false,\"emissive\":\"#000000\"},\"dataBindings\":{\"material.opacity\":{\"enabled\":true,\"dataSourceId\":1,\"tagKey\":\"code\",\"expression\":\"(Math.random()).toFixed(1)\"},\"material.color\":{\"enabled\":true,\"dataSourceId\":1,\"tagKey\":\"code\",\"expression\":\"\\\"#\\\"+(Math.random()*100).toFixed(0)+(Math.random()*100).toFixed(0)+(Math.random()*100).toFixed(0)\"}},\"updated\":true},{\"id\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\",\"name\":\"外部模型 2\",\"type\":\"GLTF\",\"position\":[0,0.5,-9],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"visible\":true,\"url\":\"/uploads/7f9867ff-eb5b-4cb9-9733-dec6051c00a5.glb\",\"loadStatus\":\"success\",\"castShadow\":false,\"structure\":{\"id\":\"e07f51bc-7999-4b38-9335-940dc6d158d6\",\"name\":\"Sketchfab_Scene\",\"originalName\":\"Sketchfab_Scene\",\"type\":\"Group\",\"children\":[{\"id\":\"0564d3d8-c4b8-446c-a49a-5ea66ffb817d\",\"name\":\"Sketchfab_model\",\"originalName\":\"Sketchfab_model\",\"type\":\"Object3D\",\"children\":[{\"id\":\"5afd9676-a239-4fda-a006-dbdc45ad08a5\",\"name\":\"root\",\"originalName\":\"root\",\"type\":\"Object3D\",\"children\":[{\"id\":\"19de2475-f40d-412a-a0d3-f7efd966a7a8\",\"name\":\"GLTF_SceneRootNode\",\"originalName\":\"GLTF_SceneRootNode\",\"type\":\"Object3D\",\"children\":[{\"id\":\"1f8145d7-012a-4e7f-8c9f-c86e20a78b81\",\"name\":\"-119-126_0\",\"originalName\":\"-119-126_0\",\"type\":\"Object3D\",\"children\":[{\"id\":\"9fce8e3d-0c9e-4061-9b8b-00f27b24c3ad\",\"name\":\"Object_4\",\"originalName\":\"Object_4\",\"type\":\"Mesh\",\"children\":[],\"visible\":true,\"position\":[0,0,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"material\":{\"color\":\"#ffffff\",\"emissive\":\"#000000\",\"metalness\":0,\"roughness\":1,\"opacity\":1,\"transparent\":false,\"wireframe\":false,\"map\":{\"metadata\":{\"version\":4.7,\"type\":\"Texture\",\"generator\":\"Texture.toJSON\"},\"uuid\":\"7f9d7a4b-48f1-428d-bc80-50f868b6aa41\",\"name\":\"\",\"image\":\"6970e28c-faa8-42b0-be14-c4fe7edccf19\",\"mapping\":300,\"channel\":0,\"repeat\":[1,1],\"offset\":[0,0],\"center\":[0,0],\"rotation\":0,\"wrap\":[1000,1000],\"format\":1023,\"internalFormat\":null,\"type\":1009,\"colorSpace\":\"srgb\",\"minFilter\":1008,\"magFilter\":1006,\"anisotropy\":1,\"flipY\":false,\"generateMipmaps\":true,\"premultiplyAlpha\":false,\"unpackAlignment\":4,\"userData\":{\"mimeType\":\"image/jpeg\"}},\"mapUrl\":\"7f9d7a4b-48f1-428d-bc80-50f868b6aa41\"},\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"Object_4\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}}],\"visible\":true,\"position\":[0,0,0],\"rotation\":[1.5707963267948963,0,0],\"scale\":[0.009999999776482582,0.009999999776482582,0.009999999776482582],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"-119-126_0\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}},{\"id\":\"ee5361a8-f8ee-4779-a021-8b2efa2c5f1e\",\"name\":\"-125-365_1\",\"originalName\":\"-125-365_1\",\"type\":\"Object3D\",\"children\":[{\"id\":\"5b63f7c2-681b-44f2-9c40-255e2456acbe\",\"name\":\"Object_6\",\"originalName\":\"Object_6\",\"type\":\"Mesh\",\"children\":[],\"visible\":true,\"position\":[0,0,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"material\":{\"color\":\"#ffffff\",\"emissive\":\"#000000\",\"metalness\":0.5057174932553811,\"roughness\":0.0971360635862711,\"opacity\":1,\"transparent\":false,\"wireframe\":false,\"map\":{\"metadata\":{\"version\":4.7,\"type\":\"Texture\",\"generator\":\"Texture.toJSON\"},\"uuid\":\"43123b29-fcec-4f1a-8392-d9724c4e624e\",\"name\":\"\",\"image\":\"9e9ac173-b462-4867-921b-0a9d27262aee\",\"mapping\":300,\"channel\":0,\"repeat\":[1,1],\"offset\":[0,0],\"center\":[0,0],\"rotation\":0,\"wrap\":[1000,1000],\"format\":1023,\"internalFormat\":null,\"type\":1009,\"colorSpace\":\"srgb\",\"minFilter\":1008,\"magFilter\":1006,\"anisotropy\":1,\"flipY\":false,\"generateMipmaps\":true,\"premultiplyAlpha\":false,\"unpackAlignment\":4,\"userData\":{\"mimeType\":\"image/jpeg\"}},\"mapUrl\":\"43123b29-fcec-4f1a-8392-d9724c4e624e\"},\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"Object_6\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}}],\"visible\":true,\"position\":[0,0,0],\"rotation\":[1.5707963267948963,0,0],\"scale\":[0.009999999776482582,0.009999999776482582,0.009999999776482582],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"-125-365_1\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}},{\"id\":\"81735420-05de-4e9c-81e8-78bd32324738\",\"name\":\"-128-864_2\",\"originalName\":\"-128-864_2\",\"type\":\"Object3D\",\"children\":[{\"id\":\"fc5776f1-1729-47e3-a26f-f6c399100b6c\",\"name\":\"Object_8\",\"originalName\":\"Object_8\",\"type\":\"Mesh\",\"children\":[],\"visible\":true,\"position\":[0,0,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"material\":{\"color\":\"#ffffff\",\"emissive\":\"#000000\",\"metalness\":0.5057174932553811,\"roughness\":0.0971360635862711,\"opacity\":1,\"transparent\":false,\"wireframe\":false,\"map\":{\"metadata\":{\"version\":4.7,\"type\":\"Texture\",\"generator\":\"Texture.toJSON\"},\"uuid\":\"43123b29-fcec-4f1a-8392-d9724c4e624e\",\"name\":\"\",\"image\":\"9e9ac173-b462-4867-921b-0a9d27262aee\",\"mapping\":300,\"channel\":0,\"repeat\":[1,1],\"offset\":[0,0],\"center\":[0,0],\"rotation\":0,\"wrap\":[1000,1000],\"format\":1023,\"internalFormat\":null,\"type\":1009,\"colorSpace\":\"srgb\",\"minFilter\":1008,\"magFilter\":1006,\"anisotropy\":1,\"flipY\":false,\"generateMipmaps\":true,\"premultiplyAlpha\":false,\"unpackAlignment\":4,\"userData\":{\"mimeType\":\"image/jpeg\"}},\"mapUrl\":\"43123b29-fcec-4f1a-8392-d9724c4e624e\"},\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"Object_8\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}}],\"visible\":true,\"position\":[0,0,0],\"rotation\":[1.5707963267948963,0,0],\"scale\":[0.009999999776482582,0.009999999776482582,0.009999999776482582],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"-128-864_2\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}},{\"id\":\"3ba33c32-11a8-4656-afc5-80bc0265fd6b\",\"name\":\"INSIDE_3\",\"originalName\":\"INSIDE_3\",\"type\":\"Object3D\",\"children\":[{\"id\":\"416ade39-8b64-46c9-8d63-4076c32433dd\",\"name\":\"Object_10\",\"originalName\":\"Object_10\",\"type\":\"Mesh\",\"children\":[],\"visible\":true,\"position\":[0,0,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"material\":{\"color\":\"#ffffff\",\"emissive\":\"#000000\",\"metalness\":0,\"roughness\":1,\"opacity\":1,\"transparent\":false,\"wireframe\":false,\"map\":{\"metadata\":{\"version\":4.7,\"type\":\"Texture\",\"generator\":\"Texture.toJSON\"},\"uuid\":\"6faac4a1-69a2-4fd9-a689-508b32d6af4b\",\"name\":\"\",\"image\":\"0b8217c5-481f-4e2a-95fd-3eb348aabddd\",\"mapping\":300,\"channel\":0,\"repeat\":[1,1],\"offset\":[0,0],\"center\":[0,0],\"rotation\":0,\"wrap\":[1000,1000],\"format\":1023,\"internalFormat\":null,\"type\":1009,\"colorSpace\":\"srgb\",\"minFilter\":1008,\"magFilter\":1006,\"anisotropy\":1,\"flipY\":false,\"generateMipmaps\":true,\"premultiplyAlpha\":false,\"unpackAlignment\":4,\"userData\":{\"mimeType\":\"image/jpeg\"}},\"mapUrl\":\"6faac4a1-69a2-4fd9-a689-508b32d6af4b\"},\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"Object_10\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}}],\"visible\":true,\"position\":[0,0,0],\"rotation\":[1.5707963267948963,0,0],\"scale\":[0.009999999776482582,0.009999999776482582,0.009999999776482582],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"INSIDE_3\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}},{\"id\":\"7c0efb95-d1b1-4ba0-a7e9-0d86bbe63378\",\"name\":\"logo3_4\",\"originalName\":\"logo3_4\",\"type\":\"Object3D\",\"children\":[{\"id\":\"f376a27e-95c0-4374-8e27-33cda5e9fd6a\",\"name\":\"Object_12\",\"originalName\":\"Object_12\",\"type\":\"Mesh\",\"children\":[],\"visible\":true,\"position\":[0,0,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"material\":{\"color\":\"#ffffff\",\"emissive\":\"#000000\",\"metalness\":0.819763,\"roughness\":0.048413,\"opacity\":1,\"transparent\":false,\"wireframe\":false,\"map\":null},\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"Object_12\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}},{\"id\":\"2911a675-af44-412f-9ce6-9154a4345329\",\"name\":\"Object_13\",\"originalName\":\"Object_13\",\"type\":\"Mesh\",\"children\":[],\"visible\":true,\"position\":[0,0,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"material\":{\"color\":\"#ffffff\",\"emissive\":\"#000000\",\"metalness\":0.428571,\"roughness\":0.048413,\"opacity\":1,\"transparent\":false,\"wireframe\":false,\"map\":null},\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"Object_13\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}},{\"id\":\"e997a04e-732e-4450-a2d5-95efbee1eb60\",\"name\":\"Object_14\",\"originalName\":\"Object_14\",\"type\":\"Mesh\",\"children\":[],\"visible\":true,\"position\":[0,0,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"material\":{\"color\":\"#ffffff\",\"emissive\":\"#000000\",\"metalness\":0.428571,\"roughness\":0.048413,\"opacity\":1,\"transparent\":false,\"wireframe\":false,\"map\":null},\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"Object_14\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}}],\"visible\":true,\"position\":[0,0,0],\"rotation\":[1.5707963267948963,0,0],\"scale\":[0.009999999776482582,0.009999999776482582,0.009999999776482582],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"logo3_4\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}},{\"id\":\"ca57096a-fc3f-45f4-ae2d-6109d9d1f811\",\"name\":\"mesh_7_694nr_5\",\"originalName\":\"mesh_7_694nr_5\",\"type\":\"Object3D\",\"children\":[{\"id\":\"284ac894-eb5e-43ed-a076-dc2931fb7d5c\",\"name\":\"Object_16\",\"originalName\":\"Object_16\",\"type\":\"Mesh\",\"children\":[],\"visible\":true,\"position\":[0,0,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"material\":{\"color\":\"#272727\",\"emissive\":\"#000000\",\"metalness\":0.2,\"roughness\":0.4,\"opacity\":1,\"transparent\":false,\"wireframe\":false,\"map\":null},\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"Object_16\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}}],\"visible\":true,\"position\":[0,0,0],\"rotation\":[1.5707963267948963,0,0],\"scale\":[0.009999999776482582,0.009999999776482582,0.009999999776482582],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mesh_7_694.nr_5\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}},{\"id\":\"38b23669-645c-4707-906f-d3c671faf6f8\",\"name\":\"OUTSIDE_6\",\"originalName\":\"OUTSIDE_6\",\"type\":\"Object3D\",\"children\":[{\"id\":\"ae7d53ca-8815-4b00-9e16-bea5753bd81f\",\"name\":\"Object_18\",\"originalName\":\"Object_18\",\"type\":\"Mesh\",\"children\":[],\"visible\":true,\"position\":[0,0,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"material\":{\"color\":\"#406344\",\"emissive\":\"#000000\",\"metalness\":0,\"roughness\":0.036,\"opacity\":1,\"transparent\":false,\"wireframe\":false,\"map\":null},\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"Object_18\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"},\"updated\":true},{\"id\":\"1b756993-2f89-474d-8ec7-ef238ca74ea5\",\"name\":\"Object_19\",\"originalName\":\"Object_19\",\"type\":\"Mesh\",\"children\":[],\"visible\":true,\"position\":[0,0,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"material\":{\"color\":\"#272727\",\"emissive\":\"#000000\",\"metalness\":0.2,\"roughness\":0.4,\"opacity\":1,\"transparent\":false,\"wireframe\":false,\"map\":null},\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"Object_19\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}},{\"id\":\"620f6736-3405-4db8-a077-215e762f0b5d\",\"name\":\"Object_20\",\"originalName\":\"Object_20\",\"type\":\"Mesh\",\"children\":[],\"visible\":true,\"position\":[0,0,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"material\":{\"color\":\"#000000\",\"emissive\":\"#000000\",\"metalness\":0.543796,\"roughness\":0.0182482,\"opacity\":1,\"transparent\":false,\"wireframe\":false,\"map\":null},\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"Object_20\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}},{\"id\":\"56455ba9-f099-4cce-8fcc-fb20aacafdbb\",\"name\":\"Object_21\",\"originalName\":\"Object_21\",\"type\":\"Mesh\",\"children\":[],\"visible\":true,\"position\":[0,0,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"material\":{\"color\":\"#606060\",\"emissive\":\"#000000\",\"metalness\":0.079,\"roughness\":0.031,\"opacity\":0.25,\"transparent\":true,\"wireframe\":false,\"map\":null},\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"Object_21\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}},{\"id\":\"3d5981db-ea5c-4678-b130-d1ba4e1043e5\",\"name\":\"Object_22\",\"originalName\":\"Object_22\",\"type\":\"Mesh\",\"children\":[],\"visible\":true,\"position\":[0,0,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"material\":{\"color\":\"#ff0000\",\"emissive\":\"#ff0001\",\"metalness\":0,\"roughness\":0.4,\"opacity\":1,\"transparent\":false,\"wireframe\":false,\"map\":null},\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"Object_22\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}},{\"id\":\"ec9729af-2462-42c0-aa5f-669a54d2e470\",\"name\":\"Object_23\",\"originalName\":\"Object_23\",\"type\":\"Mesh\",\"children\":[],\"visible\":true,\"position\":[0,0,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"material\":{\"color\":\"#cdd4e7\",\"emissive\":\"#000000\",\"metalness\":0.683,\"roughness\":0.042,\"opacity\":0.115,\"transparent\":true,\"wireframe\":false,\"map\":null},\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"Object_23\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}},{\"id\":\"717b2680-d25a-4bbd-b93f-9f80f0c84d45\",\"name\":\"Object_24\",\"originalName\":\"Object_24\",\"type\":\"Mesh\",\"children\":[],\"visible\":true,\"position\":[0,0,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"material\":{\"color\":\"#ffffff\",\"emissive\":\"#bcbcbc\",\"metalness\":0,\"roughness\":0.0569343,\"opacity\":1,\"transparent\":false,\"wireframe\":false,\"map\":null},\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"Object_24\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}},{\"id\":\"cccf1b70-f163-4feb-83cb-b35a753a248b\",\"name\":\"Object_25\",\"originalName\":\"Object_25\",\"type\":\"Mesh\",\"children\":[],\"visible\":true,\"position\":[0,0,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"material\":{\"color\":\"#000000\",\"emissive\":\"#000000\",\"metalness\":0,\"roughness\":0,\"opacity\":1,\"transparent\":false,\"wireframe\":false,\"map\":null},\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"Object_25\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}}],\"visible\":true,\"position\":[0,0,0],\"rotation\":[1.5707963267948963,0,0],\"scale\":[0.009999999776482582,0.009999999776482582,0.009999999776482582],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"OUTSIDE_6\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}},{\"id\":\"4df98f76-9754-48b1-afd5-c410fa9aaddc\",\"name\":\"polySurface116_7\",\"originalName\":\"polySurface116_7\",\"type\":\"Object3D\",\"children\":[{\"id\":\"46ce17c7-6777-448b-9957-d0a1ba2795f7\",\"name\":\"Object_27\",\"originalName\":\"Object_27\",\"type\":\"Mesh\",\"children\":[],\"visible\":true,\"position\":[0,0,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"material\":{\"color\":\"#000000\",\"emissive\":\"#000000\",\"metalness\":0.543796,\"roughness\":0.0182482,\"opacity\":1,\"transparent\":false,\"wireframe\":false,\"map\":null},\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"Object_27\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}},{\"id\":\"fe06eae4-1e1a-4788-8a10-c0695586b8ca\",\"name\":\"Object_28\",\"originalName\":\"Object_28\",\"type\":\"Mesh\",\"children\":[],\"visible\":true,\"position\":[0,0,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"material\":{\"color\":\"#272727\",\"emissive\":\"#000000\",\"metalness\":0.2,\"roughness\":0.4,\"opacity\":1,\"transparent\":false,\"wireframe\":false,\"map\":null},\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"Object_28\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}},{\"id\":\"9caf5dba-2ff0-4846-ad4c-448a2cf600da\",\"name\":\"Object_29\",\"originalName\":\"Object_29\",\"type\":\"Mesh\",\"children\":[],\"visible\":true,\"position\":[0,0,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"material\":{\"color\":\"#272727\",\"emissive\":\"#000000\",\"metalness\":0.2,\"roughness\":0.4,\"opacity\":1,\"transparent\":false,\"wireframe\":false,\"map\":null},\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"Object_29\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}}],\"visible\":true,\"position\":[0,0,0],\"rotation\":[1.5707963267948963,0,0],\"scale\":[0.009999999776482582,0.009999999776482582,0.009999999776482582],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"polySurface116_7\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}},{\"id\":\"82380611-d760-46a7-9c36-90b876ed3ba4\",\"name\":\"DOOR1_8\",\"originalName\":\"DOOR1_8\",\"type\":\"Object3D\",\"children\":[{\"id\":\"0f6d5ea4-54ab-4c40-9a38-249d0f5faf6c\",\"name\":\"Object_31\",\"originalName\":\"Object_31\",\"type\":\"Mesh\",\"children\":[],\"visible\":true,\"position\":[0,0,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"material\":{\"color\":\"#272727\",\"emissive\":\"#000000\",\"metalness\":0.2,\"roughness\":0.4,\"opacity\":1,\"transparent\":false,\"wireframe\":false,\"map\":null},\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"Object_31\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}},{\"id\":\"cfe6c640-8355-4376-9691-09dd585f5007\",\"name\":\"Object_32\",\"originalName\":\"Object_32\",\"type\":\"Mesh\",\"children\":[],\"visible\":true,\"position\":[0,0,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"material\":{\"color\":\"#2eafc1\",\"emissive\":\"#000000\",\"metalness\":0,\"roughness\":0.036,\"opacity\":1,\"transparent\":false,\"wireframe\":false,\"map\":null},\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"Object_32\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}},{\"id\":\"79980752-6c32-4639-b1ab-79d2f1105e92\",\"name\":\"Object_33\",\"originalName\":\"Object_33\",\"type\":\"Mesh\",\"children\":[],\"visible\":true,\"position\":[0,0,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"material\":{\"color\":\"#000000\",\"emissive\":\"#000000\",\"metalness\":0.543796,\"roughness\":0.0182482,\"opacity\":1,\"transparent\":false,\"wireframe\":false,\"map\":null},\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"Object_33\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}},{\"id\":\"626638bf-f25f-4930-a21f-1c3eb1a47856\",\"name\":\"Object_34\",\"originalName\":\"Object_34\",\"type\":\"Mesh\",\"children\":[],\"visible\":true,\"position\":[0,0,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"material\":{\"color\":\"#ffffff\",\"emissive\":\"#000000\",\"metalness\":0.819763,\"roughness\":0.048413,\"opacity\":1,\"transparent\":false,\"wireframe\":false,\"map\":null},\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"Object_34\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}},{\"id\":\"88640e00-0d84-4123-abef-f09557bb9b1d\",\"name\":\"Object_35\",\"originalName\":\"Object_35\",\"type\":\"Mesh\",\"children\":[],\"visible\":true,\"position\":[0,0,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"material\":{\"color\":\"#ffffff\",\"emissive\":\"#000000\",\"metalness\":0,\"roughness\":1,\"opacity\":1,\"transparent\":false,\"wireframe\":false,\"map\":{\"metadata\":{\"version\":4.7,\"type\":\"Texture\",\"generator\":\"Texture.toJSON\"},\"uuid\":\"062108b5-230f-4c1f-8d09-c74db315db8b\",\"name\":\"\",\"image\":\"7bc1de7b-9805-483c-aab5-2ed2514bcb46\",\"mapping\":300,\"channel\":0,\"repeat\":[1,1],\"offset\":[0,0],\"center\":[0,0],\"rotation\":0,\"wrap\":[1000,1000],\"format\":1023,\"internalFormat\":null,\"type\":1009,\"colorSpace\":\"srgb\",\"minFilter\":1008,\"magFilter\":1006,\"anisotropy\":1,\"flipY\":false,\"generateMipmaps\":true,\"premultiplyAlpha\":false,\"unpackAlignment\":4,\"userData\":{\"mimeType\":\"image/jpeg\"}},\"mapUrl\":\"062108b5-230f-4c1f-8d09-c74db315db8b\"},\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"Object_35\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}},{\"id\":\"8a752066-3c80-47c6-9e5a-dccf1edbcd86\",\"name\":\"Object_36\",\"originalName\":\"Object_36\",\"type\":\"Mesh\",\"children\":[],\"visible\":true,\"position\":[0,0,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"material\":{\"color\":\"#606060\",\"emissive\":\"#000000\",\"metalness\":0.079,\"roughness\":0.031,\"opacity\":0.25,\"transparent\":true,\"wireframe\":false,\"map\":null},\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"Object_36\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}}],\"visible\":true,\"position\":[0,0,0],\"rotation\":[1.5707963267948963,0,0],\"scale\":[0.009999999776482582,0.009999999776482582,0.009999999776482582],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"DOOR1_8\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}},{\"id\":\"4d3ed16f-8c19-492f-a0e6-42473eaec778\",\"name\":\"DOOR2_9\",\"originalName\":\"DOOR2_9\",\"type\":\"Object3D\",\"children\":[{\"id\":\"2d0b8744-057c-4c94-a3eb-642120fa25a5\",\"name\":\"Object_38\",\"originalName\":\"Object_38\",\"type\":\"Mesh\",\"children\":[],\"visible\":true,\"position\":[0,0,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"material\":{\"color\":\"#272727\",\"emissive\":\"#000000\",\"metalness\":0.2,\"roughness\":0.4,\"opacity\":1,\"transparent\":false,\"wireframe\":false,\"map\":null},\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"Object_38\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}},{\"id\":\"907577fa-eb9a-4c44-94b9-dc54c48eb272\",\"name\":\"Object_39\",\"originalName\":\"Object_39\",\"type\":\"Mesh\",\"children\":[],\"visible\":true,\"position\":[0,0,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"material\":{\"color\":\"#2eafc1\",\"emissive\":\"#000000\",\"metalness\":0,\"roughness\":0.036,\"opacity\":1,\"transparent\":false,\"wireframe\":false,\"map\":null},\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"Object_39\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}},{\"id\":\"860b9354-4662-4bc8-8962-0c996b4582e7\",\"name\":\"Object_40\",\"originalName\":\"Object_40\",\"type\":\"Mesh\",\"children\":[],\"visible\":true,\"position\":[0,0,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"material\":{\"color\":\"#606060\",\"emissive\":\"#000000\",\"metalness\":0.079,\"roughness\":0.031,\"opacity\":0.25,\"transparent\":true,\"wireframe\":false,\"map\":null},\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"Object_40\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}},{\"id\":\"207437bb-416b-489a-b04e-4579fe5de51c\",\"name\":\"Object_41\",\"originalName\":\"Object_41\",\"type\":\"Mesh\",\"children\":[],\"visible\":true,\"position\":[0,0,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"material\":{\"color\":\"#ffffff\",\"emissive\":\"#000000\",\"metalness\":0,\"roughness\":1,\"opacity\":1,\"transparent\":false,\"wireframe\":false,\"map\":{\"metadata\":{\"version\":4.7,\"type\":\"Texture\",\"generator\":\"Texture.toJSON\"},\"uuid\":\"062108b5-230f-4c1f-8d09-c74db315db8b\",\"name\":\"\",\"image\":\"7bc1de7b-9805-483c-aab5-2ed2514bcb46\",\"mapping\":300,\"channel\":0,\"repeat\":[1,1],\"offset\":[0,0],\"center\":[0,0],\"rotation\":0,\"wrap\":[1000,1000],\"format\":1023,\"internalFormat\":null,\"type\":1009,\"colorSpace\":\"srgb\",\"minFilter\":1008,\"magFilter\":1006,\"anisotropy\":1,\"flipY\":false,\"generateMipmaps\":true,\"premultiplyAlpha\":false,\"unpackAlignment\":4,\"userData\":{\"mimeType\":\"image/jpeg\"}},\"mapUrl\":\"062108b5-230f-4c1f-8d09-c74db315db8b\"},\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"Object_41\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}},{\"id\":\"47c03541-347f-4919-b522-d062caace91e\",\"name\":\"Object_42\",\"originalName\":\"Object_42\",\"type\":\"Mesh\",\"children\":[],\"visible\":true,\"position\":[0,0,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"material\":{\"color\":\"#000000\",\"emissive\":\"#000000\",\"metalness\":0.543796,\"roughness\":0.0182482,\"opacity\":1,\"transparent\":false,\"wireframe\":false,\"map\":null},\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"Object_42\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}}],\"visible\":true,\"position\":[0,0,0],\"rotation\":[1.5707963267948963,0,0],\"scale\":[0.009999999776482582,0.009999999776482582,0.009999999776482582],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"DOOR2_9\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}},{\"id\":\"695108c9-5ce9-4679-a23b-31d682cc5032\",\"name\":\"DOOR3_10\",\"originalName\":\"DOOR3_10\",\"type\":\"Object3D\",\"children\":[{\"id\":\"accc088a-106a-4c60-948b-8b603ba3769e\",\"name\":\"Object_44\",\"originalName\":\"Object_44\",\"type\":\"Mesh\",\"children\":[],\"visible\":true,\"position\":[0,0,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"material\":{\"color\":\"#272727\",\"emissive\":\"#000000\",\"metalness\":0.2,\"roughness\":0.4,\"opacity\":1,\"transparent\":false,\"wireframe\":false,\"map\":null},\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"Object_44\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}},{\"id\":\"47ff4171-1248-414d-b608-c447aba531dc\",\"name\":\"Object_45\",\"originalName\":\"Object_45\",\"type\":\"Mesh\",\"children\":[],\"visible\":true,\"position\":[0,0,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"material\":{\"color\":\"#2eafc1\",\"emissive\":\"#000000\",\"metalness\":0,\"roughness\":0.036,\"opacity\":1,\"transparent\":false,\"wireframe\":false,\"map\":null},\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"Object_45\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}},{\"id\":\"2a5a771a-6ffd-406e-98ec-6a78bc4d48c8\",\"name\":\"Object_46\",\"originalName\":\"Object_46\",\"type\":\"Mesh\",\"children\":[],\"visible\":true,\"position\":[0,0,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"material\":{\"color\":\"#000000\",\"emissive\":\"#000000\",\"metalness\":0.543796,\"roughness\":0.0182482,\"opacity\":1,\"transparent\":false,\"wireframe\":false,\"map\":null},\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"Object_46\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}},{\"id\":\"b43fab16-0c7a-4db7-b328-ffbbd31c4765\",\"name\":\"Object_47\",\"originalName\":\"Object_47\",\"type\":\"Mesh\",\"children\":[],\"visible\":true,\"position\":[0,0,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"material\":{\"color\":\"#ffffff\",\"emissive\":\"#000000\",\"metalness\":0.819763,\"roughness\":0.048413,\"opacity\":1,\"transparent\":false,\"wireframe\":false,\"map\":null},\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"Object_47\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}},{\"id\":\"078180ae-1784-4060-8d17-1e68abf4e25d\",\"name\":\"Object_48\",\"originalName\":\"Object_48\",\"type\":\"Mesh\",\"children\":[],\"visible\":true,\"position\":[0,0,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"material\":{\"color\":\"#ffffff\",\"emissive\":\"#000000\",\"metalness\":0,\"roughness\":1,\"opacity\":1,\"transparent\":false,\"wireframe\":false,\"map\":{\"metadata\":{\"version\":4.7,\"type\":\"Texture\",\"generator\":\"Texture.toJSON\"},\"uuid\":\"062108b5-230f-4c1f-8d09-c74db315db8b\",\"name\":\"\",\"image\":\"7bc1de7b-9805-483c-aab5-2ed2514bcb46\",\"mapping\":300,\"channel\":0,\"repeat\":[1,1],\"offset\":[0,0],\"center\":[0,0],\"rotation\":0,\"wrap\":[1000,1000],\"format\":1023,\"internalFormat\":null,\"type\":1009,\"colorSpace\":\"srgb\",\"minFilter\":1008,\"magFilter\":1006,\"anisotropy\":1,\"flipY\":false,\"generateMipmaps\":true,\"premultiplyAlpha\":false,\"unpackAlignment\":4,\"userData\":{\"mimeType\":\"image/jpeg\"}},\"mapUrl\":\"062108b5-230f-4c1f-8d09-c74db315db8b\"},\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"Object_48\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}},{\"id\":\"a1df330f-15c4-4bc6-9019-1401ca0ae1a2\",\"name\":\"Object_49\",\"originalName\":\"Object_49\",\"type\":\"Mesh\",\"children\":[],\"visible\":true,\"position\":[0,0,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"material\":{\"color\":\"#606060\",\"emissive\":\"#000000\",\"metalness\":0.079,\"roughness\":0.031,\"opacity\":0.25,\"transparent\":true,\"wireframe\":false,\"map\":null},\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"Object_49\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}}],\"visible\":true,\"position\":[0,0,0],\"rotation\":[1.5707963267948963,0,0],\"scale\":[0.009999999776482582,0.009999999776482582,0.009999999776482582],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"DOOR3_10\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}},{\"id\":\"f6935c58-a30e-43a8-93f4-ae9af8d8fb4e\",\"name\":\"DOOR4_11\",\"originalName\":\"DOOR4_11\",\"type\":\"Object3D\",\"children\":[{\"id\":\"dad788b3-0c51-454f-b561-f1666f1d6591\",\"name\":\"Object_51\",\"originalName\":\"Object_51\",\"type\":\"Mesh\",\"children\":[],\"visible\":true,\"position\":[0,0,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"material\":{\"color\":\"#272727\",\"emissive\":\"#000000\",\"metalness\":0.2,\"roughness\":0.4,\"opacity\":1,\"transparent\":false,\"wireframe\":false,\"map\":null},\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"Object_51\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}},{\"id\":\"a17b2026-bfc4-4c6d-85c3-ffe8e8091771\",\"name\":\"Object_52\",\"originalName\":\"Object_52\",\"type\":\"Mesh\",\"children\":[],\"visible\":true,\"position\":[0,0,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"material\":{\"color\":\"#2eafc1\",\"emissive\":\"#000000\",\"metalness\":0,\"roughness\":0.036,\"opacity\":1,\"transparent\":false,\"wireframe\":false,\"map\":null},\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"Object_52\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}},{\"id\":\"e0ae9472-4f5a-4959-b413-e9911d261cc7\",\"name\":\"Object_53\",\"originalName\":\"Object_53\",\"type\":\"Mesh\",\"children\":[],\"visible\":true,\"position\":[0,0,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"material\":{\"color\":\"#606060\",\"emissive\":\"#000000\",\"metalness\":0.079,\"roughness\":0.031,\"opacity\":0.25,\"transparent\":true,\"wireframe\":false,\"map\":null},\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"Object_53\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}},{\"id\":\"711ef64d-58de-4364-8f37-1cc18de92863\",\"name\":\"Object_54\",\"originalName\":\"Object_54\",\"type\":\"Mesh\",\"children\":[],\"visible\":true,\"position\":[0,0,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"material\":{\"color\":\"#ffffff\",\"emissive\":\"#000000\",\"metalness\":0,\"roughness\":1,\"opacity\":1,\"transparent\":false,\"wireframe\":false,\"map\":{\"metadata\":{\"version\":4.7,\"type\":\"Texture\",\"generator\":\"Texture.toJSON\"},\"uuid\":\"062108b5-230f-4c1f-8d09-c74db315db8b\",\"name\":\"\",\"image\":\"7bc1de7b-9805-483c-aab5-2ed2514bcb46\",\"mapping\":300,\"channel\":0,\"repeat\":[1,1],\"offset\":[0,0],\"center\":[0,0],\"rotation\":0,\"wrap\":[1000,1000],\"format\":1023,\"internalFormat\":null,\"type\":1009,\"colorSpace\":\"srgb\",\"minFilter\":1008,\"magFilter\":1006,\"anisotropy\":1,\"flipY\":false,\"generateMipmaps\":true,\"premultiplyAlpha\":false,\"unpackAlignment\":4,\"userData\":{\"mimeType\":\"image/jpeg\"}},\"mapUrl\":\"062108b5-230f-4c1f-8d09-c74db315db8b\"},\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"Object_54\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}}],\"visible\":true,\"position\":[0,0,0],\"rotation\":[1.5707963267948963,0,0],\"scale\":[0.009999999776482582,0.009999999776482582,0.009999999776482582],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"DOOR4_11\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}},{\"id\":\"0034a5a2-c82a-4ea5-ad78-0210adb1af7f\",\"name\":\"Wheel1001_12\",\"originalName\":\"Wheel1001_12\",\"type\":\"Object3D\",\"children\":[{\"id\":\"10d6c257-583f-46ad-8e5a-3ffd6ae25565\",\"name\":\"Object_56\",\"originalName\":\"Object_56\",\"type\":\"Mesh\",\"children\":[],\"visible\":true,\"position\":[0,0,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"material\":{\"color\":\"#ffffff\",\"emissive\":\"#000000\",\"metalness\":1,\"roughness\":1,\"opacity\":1,\"transparent\":false,\"wireframe\":false,\"map\":{\"metadata\":{\"version\":4.7,\"type\":\"Texture\",\"generator\":\"Texture.toJSON\"},\"uuid\":\"4a6fa271-7a87-4844-b91a-9809606fb8fd\",\"name\":\"\",\"image\":\"28f37260-05c9-491e-9dc6-2d1023c3ca9c\",\"mapping\":300,\"channel\":0,\"repeat\":[1,1],\"offset\":[0,0],\"center\":[0,0],\"rotation\":0,\"wrap\":[1000,1000],\"format\":1023,\"internalFormat\":null,\"type\":1009,\"colorSpace\":\"srgb\",\"minFilter\":1008,\"magFilter\":1006,\"anisotropy\":1,\"flipY\":false,\"generateMipmaps\":true,\"premultiplyAlpha\":false,\"unpackAlignment\":4,\"userData\":{\"mimeType\":\"image/png\"}},\"mapUrl\":\"4a6fa271-7a87-4844-b91a-9809606fb8fd\"},\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"Object_56\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}}],\"visible\":true,\"position\":[0,0,0],\"rotation\":[1.5707963267948963,0,0],\"scale\":[0.009999999776482582,0.009999999776482582,0.009999999776482582],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"Wheel1.001_12\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}}],\"visible\":true,\"position\":[0,0,0],\"rotation\":[1.5707963267948963,0,0],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"GLTF_SceneRootNode\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}}],\"visible\":true,\"position\":[0,0,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"root\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}}],\"visible\":true,\"position\":[0,0,0],\"rotation\":[-1.5707963267948966,-1.1102230246251565e-16,-1.5707963267948966],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"Sketchfab_model\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}}],\"visible\":true,\"position\":[0,0,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"root\":true,\"isGltfRoot\":true,\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"78330523-2c5e-4ec4-a6b1-6e74113da338\"}},\"events\":{\"onClick\":[{\"id\":\"4eakskvot\",\"action\":\"TOGGLE_VISIBLE\",\"targetId\":\"bd165603-51ba-4817-9ae1-46d970043df6\",\"sourceMeshId\":\"ae7d53ca-8815-4b00-9e16-bea5753bd81f\",\"value\":\"\",\"targetMeshId\":\"610227b0-dbbd-484c-810a-5ebd2d8d4566\"}]},\"dataBindings\":{\"ae7d53ca-8815-4b00-9e16-bea5753bd81f:material.color\":{\"enabled\":true,\"dataSourceId\":1,\"tagKey\":\"code\",\"expression\":\"\\\"#\\\"+(Math.random()*100).toFixed(0)+(Math.random()*100).toFixed(0)+(Math.random()*100).toFixed(0)\"}},\"updated\":true},{\"id\":\"bd165603-51ba-4817-9ae1-46d970043df6\",\"name\":\"外部模型 3\",\"type\":\"GLTF\",\"position\":[0,0.5,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"visible\":true,\"url\":\"/uploads/84c5323e-5033-4fe3-806f-03da48b6e898.glb\",\"loadStatus\":\"success\",\"castShadow\":false,\"structure\":{\"id\":\"baf783f2-1618-4d0f-8710-6af91fc91d79\",\"name\":\"Sketchfab_Scene\",\"originalName\":\"Sketchfab_Scene\",\"type\":\"Group\",\"children\":[{\"id\":\"77de6e56-649b-4ee6-b4e2-0cea171d3887\",\"name\":\"Plane057_4_0\",\"originalName\":\"Plane057_4_0\",\"type\":\"Mesh\",\"children\":[],\"visible\":true,\"position\":[-9364.873046875,4071.897216796875,32018.564453125],\"rotation\":[-1.5707963838897459,-4.9397480161861316e-8,-2.428349971771241],\"scale\":[100.00000000000001,100,100],\"material\":{\"color\":\"#ffffff\",\"emissive\":\"#000000\",\"metalness\":1,\"roughness\":1,\"opacity\":1,\"transparent\":true,\"wireframe\":false,\"map\":{\"metadata\":{\"version\":4.7,\"type\":\"Texture\",\"generator\":\"Texture.toJSON\"},\"uuid\":\"ecabdb9e-4c0a-44e7-bf5c-785951b8fd97\",\"name\":\"\",\"image\":\"6259107f-5ce3-4546-bbc7-23e442319f03\",\"mapping\":300,\"channel\":0,\"repeat\":[1,1],\"offset\":[0,0],\"center\":[0,0],\"rotation\":0,\"wrap\":[1000,1000],\"format\":1023,\"internalFormat\":null,\"type\":1009,\"colorSpace\":\"srgb\",\"minFilter\":1008,\"magFilter\":1006,\"anisotropy\":1,\"flipY\":false,\"generateMipmaps\":true,\"premultiplyAlpha\":false,\"unpackAlignment\":4,\"userData\":{\"mimeType\":\"image/webp\"}},\"mapUrl\":\"ecabdb9e-4c0a-44e7-bf5c-785951b8fd97\"},\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"Plane.057_4_0\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"bd165603-51ba-4817-9ae1-46d970043df6\"}},{\"id\":\"c7b52b76-93e2-4f8e-88a3-607c5a8e1bdf\",\"name\":\"Plane057_3_0\",\"originalName\":\"Plane057_3_0\",\"type\":\"Mesh\",\"children\":[],\"visible\":true,\"position\":[-9364.873046875,4071.897216796875,32018.564453125],\"rotation\":[-1.5707963838897459,-4.9397480161861316e-8,-2.428349971771241],\"scale\":[100.00000000000001,100,100],\"material\":{\"color\":\"#ffffff\",\"emissive\":\"#000000\",\"metalness\":1,\"roughness\":1,\"opacity\":1,\"transparent\":false,\"wireframe\":false,\"map\":{\"metadata\":{\"version\":4.7,\"type\":\"Texture\",\"generator\":\"Texture.toJSON\"},\"uuid\":\"c468b193-2a75-44d5-8453-ff84338fc7cb\",\"name\":\"\",\"image\":\"22e197de-f961-49e8-b1cf-dfcf23ada7b5\",\"mapping\":300,\"channel\":0,\"repeat\":[1,1],\"offset\":[0,0],\"center\":[0,0],\"rotation\":0,\"wrap\":[1000,1000],\"format\":1023,\"internalFormat\":null,\"type\":1009,\"colorSpace\":\"srgb\",\"minFilter\":1008,\"magFilter\":1006,\"anisotropy\":1,\"flipY\":false,\"generateMipmaps\":true,\"premultiplyAlpha\":false,\"unpackAlignment\":4,\"userData\":{\"mimeType\":\"image/webp\"}},\"mapUrl\":\"c468b193-2a75-44d5-8453-ff84338fc7cb\"},\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"Plane.057_3_0\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"bd165603-51ba-4817-9ae1-46d970043df6\"}},{\"id\":\"e3595f27-584f-4618-857d-c39d94941ccf\",\"name\":\"Plane057_2_0\",\"originalName\":\"Plane057_2_0\",\"type\":\"Mesh\",\"children\":[],\"visible\":true,\"position\":[-9364.873046875,4071.897216796875,32018.564453125],\"rotation\":[-1.5707963838897459,-4.9397480161861316e-8,-2.428349971771241],\"scale\":[100.00000000000001,100,100],\"material\":{\"color\":\"#ffffff\",\"emissive\":\"#000000\",\"metalness\":0,\"roughness\":1,\"opacity\":1,\"transparent\":false,\"wireframe\":false,\"map\":{\"metadata\":{\"version\":4.7,\"type\":\"Texture\",\"generator\":\"Texture.toJSON\"},\"uuid\":\"47240013-6f9a-4b97-9086-ca8c53b3b6b1\",\"name\":\"\",\"image\":\"87505279-2138-47d8-b4a8-a52270a145d3\",\"mapping\":300,\"channel\":0,\"repeat\":[1,1],\"offset\":[0,0],\"center\":[0,0],\"rotation\":0,\"wrap\":[1000,1000],\"format\":1023,\"internalFormat\":null,\"type\":1009,\"colorSpace\":\"srgb\",\"minFilter\":1008,\"magFilter\":1006,\"anisotropy\":1,\"flipY\":false,\"generateMipmaps\":true,\"premultiplyAlpha\":false,\"unpackAlignment\":4,\"userData\":{\"mimeType\":\"image/webp\"}},\"mapUrl\":\"47240013-6f9a-4b97-9086-ca8c53b3b6b1\"},\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"Plane.057_2_0\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"bd165603-51ba-4817-9ae1-46d970043df6\"}},{\"id\":\"7f13f7b8-6cea-4c65-ab48-38abc6ec14ad\",\"name\":\"Plane057_1_0\",\"originalName\":\"Plane057_1_0\",\"type\":\"Mesh\",\"children\":[],\"visible\":true,\"position\":[-9364.873046875,4071.897216796875,32018.564453125],\"rotation\":[-1.5707963838897459,-4.9397480161861316e-8,-2.428349971771241],\"scale\":[100.00000000000001,100,100],\"material\":{\"color\":\"#ffffff\",\"emissive\":\"#000000\",\"metalness\":1,\"roughness\":1,\"opacity\":1,\"transparent\":true,\"wireframe\":false,\"map\":{\"metadata\":{\"version\":4.7,\"type\":\"Texture\",\"generator\":\"Texture.toJSON\"},\"uuid\":\"13252153-0075-4feb-bafc-27852c7d2cf8\",\"name\":\"\",\"image\":\"1db8f073-8323-4c4a-a2cf-911b178a11cd\",\"mapping\":300,\"channel\":0,\"repeat\":[1,1],\"offset\":[0,0],\"center\":[0,0],\"rotation\":0,\"wrap\":[1000,1000],\"format\":1023,\"internalFormat\":null,\"type\":1009,\"colorSpace\":\"srgb\",\"minFilter\":1008,\"magFilter\":1006,\"anisotropy\":1,\"flipY\":false,\"generateMipmaps\":true,\"premultiplyAlpha\":false,\"unpackAlignment\":4,\"userData\":{\"mimeType\":\"image/webp\"}},\"mapUrl\":\"13252153-0075-4feb-bafc-27852c7d2cf8\"},\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"Plane.057_1_0\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"bd165603-51ba-4817-9ae1-46d970043df6\"}},{\"id\":\"610227b0-dbbd-484c-810a-5ebd2d8d4566\",\"name\":\"Cube192_7_0\",\"originalName\":\"Cube192_7_0\",\"type\":\"Mesh\",\"children\":[],\"visible\":true,\"position\":[4283.73974609375,5551.263671875,2292.18017578125],\"rotation\":[-1.5707964897155757,0,0],\"scale\":[100,100.00000000000001,100.00000000000001],\"material\":{\"color\":\"#ffffff\",\"emissive\":\"#000000\",\"metalness\":1,\"roughness\":1,\"opacity\":1,\"transparent\":false,\"wireframe\":false,\"map\":{\"metadata\":{\"version\":4.7,\"type\":\"Texture\",\"generator\":\"Texture.toJSON\"},\"uuid\":\"ef70d435-0883-418a-a311-312d365e06bc\",\"name\":\"\",\"image\":\"2bc7ba04-2c52-4bae-8fae-83e2e9a85238\",\"mapping\":300,\"channel\":0,\"repeat\":[1,1],\"offset\":[0,0],\"center\":[0,0],\"rotation\":0,\"wrap\":[1000,1000],\"format\":1023,\"internalFormat\":null,\"type\":1009,\"colorSpace\":\"srgb\",\"minFilter\":1008,\"magFilter\":1006,\"anisotropy\":1,\"flipY\":false,\"generateMipmaps\":true,\"premultiplyAlpha\":false,\"unpackAlignment\":4,\"userData\":{\"mimeType\":\"image/webp\"}},\"mapUrl\":\"ef70d435-0883-418a-a311-312d365e06bc\"},\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"Cube.192_7_0\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"bd165603-51ba-4817-9ae1-46d970043df6\"}},{\"id\":\"eab9c6ba-dc05-467e-9680-4aaf20bd0b41\",\"name\":\"dec001_6_0\",\"originalName\":\"dec001_6_0\",\"type\":\"Mesh\",\"children\":[],\"visible\":true,\"position\":[-6030.8857421875,-60.75678634643555,15546.98828125],\"rotation\":[-1.570796358535449,-3.005366805419741e-8,0.7581065297126768],\"scale\":[635.8621826171874,635.8621826171876,635.8621826171873],\"material\":{\"color\":\"#ffffff\",\"emissive\":\"#000000\",\"metalness\":1,\"roughness\":1,\"opacity\":1,\"transparent\":true,\"wireframe\":false,\"map\":{\"metadata\":{\"version\":4.7,\"type\":\"Texture\",\"generator\":\"Texture.toJSON\"},\"uuid\":\"14802515-97a2-49b6-bfc9-6d7c26b1ab59\",\"name\":\"\",\"image\":\"fc02855b-8fb3-45ca-b94d-e74caf3f5b51\",\"mapping\":300,\"channel\":0,\"repeat\":[1,1],\"offset\":[0,0],\"center\":[0,0],\"rotation\":0,\"wrap\":[1000,1000],\"format\":1023,\"internalFormat\":null,\"type\":1009,\"colorSpace\":\"srgb\",\"minFilter\":1008,\"magFilter\":1006,\"anisotropy\":1,\"flipY\":false,\"generateMipmaps\":true,\"premultiplyAlpha\":false,\"unpackAlignment\":4,\"userData\":{\"mimeType\":\"image/webp\"}},\"mapUrl\":\"14802515-97a2-49b6-bfc9-6d7c26b1ab59\"},\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"dec.001_6_0\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"bd165603-51ba-4817-9ae1-46d970043df6\"}},{\"id\":\"b33774f3-c8e3-4b73-8144-21e1cb417674\",\"name\":\"bridge_5_0\",\"originalName\":\"bridge_5_0\",\"type\":\"Mesh\",\"children\":[],\"visible\":true,\"position\":[-12130.826171875,-59.30828857421875,9716.0556640625],\"rotation\":[-1.5707963675164627,-1.5888351190262995e-8,0.3720040023326872],\"scale\":[100.0000076293945,100.00000762939455,99.99999999999999],\"material\":{\"color\":\"#ffffff\",\"emissive\":\"#000000\",\"metalness\":0,\"roughness\":1,\"opacity\":1,\"transparent\":false,\"wireframe\":false,\"map\":{\"metadata\":{\"version\":4.7,\"type\":\"Texture\",\"generator\":\"Texture.toJSON\"},\"uuid\":\"0dca5c1c-d3b3-4fee-a9ae-e286c26de389\",\"name\":\"\",\"image\":\"c1a118ee-88fb-4fa3-bc48-d313e9354b45\",\"mapping\":300,\"channel\":0,\"repeat\":[1,1],\"offset\":[0,0],\"center\":[0,0],\"rotation\":0,\"wrap\":[1000,1000],\"format\":1023,\"internalFormat\":null,\"type\":1009,\"colorSpace\":\"srgb\",\"minFilter\":1008,\"magFilter\":1006,\"anisotropy\":1,\"flipY\":false,\"generateMipmaps\":true,\"premultiplyAlpha\":false,\"unpackAlignment\":4,\"userData\":{\"mimeType\":\"image/webp\"}},\"mapUrl\":\"0dca5c1c-d3b3-4fee-a9ae-e286c26de389\"},\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"bridge_5_0\",\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"bd165603-51ba-4817-9ae1-46d970043df6\"}}],\"visible\":true,\"position\":[0,0,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"root\":true,\"isGltfRoot\":true,\"animations\":[],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"bd165603-51ba-4817-9ae1-46d970043df6\"}},\"updated\":true}],\"roamingNodes\":[],\"sceneConfig\":{\"backgroundType\":\"color\",\"backgroundValue\":\"#111111\",\"environmentType\":\"preset\",\"environmentValue\":\"city\",\"exposure\":1,\"shadows\":false,\"contactShadows\":false,\"gridVisible\":true,\"sunPosition\":[100,20,100],\"postProcessing\":{\"enabled\":false,\"multisampling\":8,\"bloom\":{\"enabled\":false,\"intensity\":1,\"radius\":0.4,\"threshold\":0.9},\"ssao\":{\"enabled\":false,\"intensity\":1,\"radius\":0.1,\"samples\":16},\"vignette\":{\"enabled\":false,\"offset\":0.3,\"darkness\":0.5},\"brightnessContrast\":{\"enabled\":false,\"brightness\":0,\"contrast\":0},\"hueSaturation\":{\"enabled\":false,\"hue\":0,\"saturation\":0}},\"snapTranslation\":3,\"snapRotation\":0,\"cameraPosition\":[9.846788195193483,6.091032130427456,-19.738194160551046],\"cameraRotation\":[-2.5730780021474344,0.7053440693383234,2.748922242205937],\"cameraTarget\":[-3.939248810243068,-2.625870910158369,-6.094048312444306],\"cameraFov\":45,\"cameraNear\":0.1,\"cameraFar\":1000}}', NULL, '2026-01-21 08:44:45', '2026-01-22 11:24:41', 0);
 INSERT INTO `project` VALUES (6, '测试5', NULL, '/uploads/project_6_ee4cf848.png', 'draft', '{\"objects\":[{\"id\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\",\"name\":\"外部模型 2\",\"type\":\"GLTF\",\"position\":[-3.9912206391160256,0.5,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"visible\":true,\"url\":\"/uploads/482e3183-4bf2-47d8-89a2-400bdcd61d83.glb\",\"loadStatus\":\"success\",\"castShadow\":false,\"structure\":{\"id\":\"87e48575-c257-4cb5-ad13-a916a18f0b72\",\"name\":\"Scene\",\"originalName\":\"Scene\",\"type\":\"Group\",\"children\":[{\"id\":\"8f158fac-b6e0-4685-90a3-2a81cf76c863\",\"name\":\"Character\",\"originalName\":\"Character\",\"type\":\"Object3D\",\"children\":[{\"id\":\"bb124b13-7828-4fda-ac6e-58ff6403d297\",\"name\":\"vanguard_Mesh\",\"originalName\":\"vanguard_Mesh\",\"type\":\"SkinnedMesh\",\"children\":[],\"visible\":true,\"position\":[0,0,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"material\":{\"color\":\"#e7e7e7\",\"emissive\":\"#000000\",\"metalness\":0,\"roughness\":1,\"opacity\":1,\"transparent\":false,\"wireframe\":false,\"map\":{\"metadata\":{\"version\":4.7,\"type\":\"Texture\",\"generator\":\"Texture.toJSON\"},\"uuid\":\"34298be2-3b42-45a9-a2bd-61fa38e8684f\",\"name\":\"vanguard_vanguard_diffuse_tga\",\"image\":\"80ecb1f5-f483-4040-8bed-f8704db0aa16\",\"mapping\":300,\"channel\":0,\"repeat\":[1,1],\"offset\":[0,0],\"center\":[0,0],\"rotation\":0,\"wrap\":[1000,1000],\"format\":1023,\"internalFormat\":null,\"type\":1009,\"colorSpace\":\"srgb\",\"minFilter\":1008,\"magFilter\":1006,\"anisotropy\":1,\"flipY\":false,\"generateMipmaps\":true,\"premultiplyAlpha\":false,\"unpackAlignment\":4,\"userData\":{\"mimeType\":\"image/jpeg\"}},\"mapUrl\":\"34298be2-3b42-45a9-a2bd-61fa38e8684f\"},\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"vanguard_Mesh\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}},{\"id\":\"36cc8fdd-215c-4b13-b2be-8dd780f30204\",\"name\":\"vanguard_visor\",\"originalName\":\"vanguard_visor\",\"type\":\"SkinnedMesh\",\"children\":[],\"visible\":true,\"position\":[0,0,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"material\":{\"color\":\"#e7e7e7\",\"emissive\":\"#000000\",\"metalness\":0,\"roughness\":1,\"opacity\":1,\"transparent\":false,\"wireframe\":false,\"map\":{\"metadata\":{\"version\":4.7,\"type\":\"Texture\",\"generator\":\"Texture.toJSON\"},\"uuid\":\"34298be2-3b42-45a9-a2bd-61fa38e8684f\",\"name\":\"vanguard_vanguard_diffuse_tga\",\"image\":\"80ecb1f5-f483-4040-8bed-f8704db0aa16\",\"mapping\":300,\"channel\":0,\"repeat\":[1,1],\"offset\":[0,0],\"center\":[0,0],\"rotation\":0,\"wrap\":[1000,1000],\"format\":1023,\"internalFormat\":null,\"type\":1009,\"colorSpace\":\"srgb\",\"minFilter\":1008,\"magFilter\":1006,\"anisotropy\":1,\"flipY\":false,\"generateMipmaps\":true,\"premultiplyAlpha\":false,\"unpackAlignment\":4,\"userData\":{\"mimeType\":\"image/jpeg\"}},\"mapUrl\":\"34298be2-3b42-45a9-a2bd-61fa38e8684f\"},\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"vanguard_visor\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}},{\"id\":\"e09daa23-134b-4dad-b786-1cd24ad51eda\",\"name\":\"mixamorigHips\",\"originalName\":\"mixamorigHips\",\"type\":\"Bone\",\"children\":[{\"id\":\"320c8711-f08d-4933-a4f3-36d018b666ef\",\"name\":\"mixamorigSpine\",\"originalName\":\"mixamorigSpine\",\"type\":\"Bone\",\"children\":[{\"id\":\"eacd29ca-2567-4ab6-9877-f390cf2392ce\",\"name\":\"mixamorigSpine1\",\"originalName\":\"mixamorigSpine1\",\"type\":\"Bone\",\"children\":[{\"id\":\"b57eb204-79cf-4377-adc1-7285d332999b\",\"name\":\"mixamorigSpine2\",\"originalName\":\"mixamorigSpine2\",\"type\":\"Bone\",\"children\":[{\"id\":\"dd0df7f1-f7de-4011-9b1e-32ee5011ca57\",\"name\":\"mixamorigNeck\",\"originalName\":\"mixamorigNeck\",\"type\":\"Bone\",\"children\":[{\"id\":\"b3ebec63-0590-4f36-af22-b6020a08e631\",\"name\":\"mixamorigHead\",\"originalName\":\"mixamorigHead\",\"type\":\"Bone\",\"children\":[{\"id\":\"02e1c7b2-174b-4308-bdac-dbc4c0ffad2c\",\"name\":\"mixamorigHeadTop_End\",\"originalName\":\"mixamorigHeadTop_End\",\"type\":\"Object3D\",\"children\":[],\"visible\":true,\"position\":[1.862645149230957e-9,25.65350341796875,2.45046329498291],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:HeadTop_End\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[0,3.28021240234375,0.31333160400390625],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:Head\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[-0.05686790123581886,14.235763549804688,-2.0880918502807617],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:Neck\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}},{\"id\":\"30be0cf0-8891-491f-80ca-974fb7a3038b\",\"name\":\"mixamorigLeftShoulder\",\"originalName\":\"mixamorigLeftShoulder\",\"type\":\"Bone\",\"children\":[{\"id\":\"7cbbd57a-1db8-4efe-bde4-529b10f33ded\",\"name\":\"mixamorigLeftArm\",\"originalName\":\"mixamorigLeftArm\",\"type\":\"Bone\",\"children\":[{\"id\":\"3462346c-b520-48da-a70a-03a2a4bba7aa\",\"name\":\"mixamorigLeftForeArm\",\"originalName\":\"mixamorigLeftForeArm\",\"type\":\"Bone\",\"children\":[{\"id\":\"5f41b3b8-06fa-4f11-8380-85eb5bac61d7\",\"name\":\"mixamorigLeftHand\",\"originalName\":\"mixamorigLeftHand\",\"type\":\"Bone\",\"children\":[{\"id\":\"93e5f9f6-b816-407d-b599-0111c50efa0e\",\"name\":\"mixamorigLeftHandThumb1\",\"originalName\":\"mixamorigLeftHandThumb1\",\"type\":\"Bone\",\"children\":[{\"id\":\"fc027d61-cc0e-4f09-94e2-fc021bb4cd06\",\"name\":\"mixamorigLeftHandThumb2\",\"originalName\":\"mixamorigLeftHandThumb2\",\"type\":\"Bone\",\"children\":[{\"id\":\"ee50a973-753b-43ce-9ae2-a6d09d841750\",\"name\":\"mixamorigLeftHandThumb3\",\"originalName\":\"mixamorigLeftHandThumb3\",\"type\":\"Object3D\",\"children\":[{\"id\":\"90519948-b840-4744-874c-86680f9b5fab\",\"name\":\"mixamorigLeftHandThumb4\",\"originalName\":\"mixamorigLeftHandThumb4\",\"type\":\"Object3D\",\"children\":[],\"visible\":true,\"position\":[-1.7129883766174316,2.9670135974884033,-1.7129671573638916],\"rotation\":[-2.531177969586074e-16,1.5128921820263362e-15,2.8009930019834793e-7],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftHandThumb4\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[-2.10666561126709,3.648871898651123,-2.1066384315490723],\"rotation\":[1.6875135114475997e-16,1.359878982050846e-15,-1.8673287627280042e-7],\"scale\":[1,0.9999999403953552,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftHandThumb3\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[-1.730872631072998,2.9980006217956543,-1.730855107307434],\"rotation\":[-2.5306345463604888e-8,1.3904182103677594e-15,2.446536524641107e-15],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftHandThumb2\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[-1.9250564575195312,4.173384666442871,-1.510902762413025],\"rotation\":[3.811648250022586e-21,7.105425663535107e-15,3.5527119847346064e-15],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftHandThumb1\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}},{\"id\":\"9b1f6d0e-c95e-49c0-8f76-0dc6df6937f6\",\"name\":\"mixamorigLeftHandIndex1\",\"originalName\":\"mixamorigLeftHandIndex1\",\"type\":\"Bone\",\"children\":[{\"id\":\"a88c5764-f94c-40ef-b857-6c171f634d68\",\"name\":\"mixamorigLeftHandIndex2\",\"originalName\":\"mixamorigLeftHandIndex2\",\"type\":\"Bone\",\"children\":[{\"id\":\"7495aac5-f30d-4e57-a9ce-8d8609b38b55\",\"name\":\"mixamorigLeftHandIndex3\",\"originalName\":\"mixamorigLeftHandIndex3\",\"type\":\"Bone\",\"children\":[{\"id\":\"86084890-810e-4e84-9f9b-94e4d5ef418b\",\"name\":\"mixamorigLeftHandIndex4\",\"originalName\":\"mixamorigLeftHandIndex4\",\"type\":\"Object3D\",\"children\":[],\"visible\":true,\"position\":[0.000012469027751649264,3.6331827640533447,-0.000019523020455380902],\"rotation\":[-2.2204174618883432e-16,3.838118044218177e-22,-1.7763587452243818e-15],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftHandIndex4\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[0.0000125689766719006,2.659588098526001,-0.00004213707143208012],\"rotation\":[-7.450830175059764e-9,-1.0248710758151411e-16,-2.1020448196495987e-15],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftHandIndex3\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[-0.000021317937353160232,3.248610496520996,-0.00003571003981051035],\"rotation\":[-8.505420368010182e-9,3.137105574102533e-16,-1.3739750670538384e-7],\"scale\":[1,0.9999999403953552,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftHandIndex2\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[-0.39597198367118835,14.669356346130371,-2.855875253677368],\"rotation\":[3.811648250022586e-21,7.105425663535107e-15,3.5527119847346064e-15],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftHandIndex1\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}},{\"id\":\"ba9c9432-58cb-4815-8a3c-6b42527b11fe\",\"name\":\"mixamorigLeftHandMiddle1\",\"originalName\":\"mixamorigLeftHandMiddle1\",\"type\":\"Bone\",\"children\":[{\"id\":\"914f4975-9135-4b43-ae8f-7fe188698b66\",\"name\":\"mixamorigLeftHandMiddle2\",\"originalName\":\"mixamorigLeftHandMiddle2\",\"type\":\"Bone\",\"children\":[{\"id\":\"c0d55d67-3a5a-4f1c-bd50-f4258d4ead7e\",\"name\":\"mixamorigLeftHandMiddle3\",\"originalName\":\"mixamorigLeftHandMiddle3\",\"type\":\"Bone\",\"children\":[{\"id\":\"6f805f63-d81c-4371-86ef-6bf1953de54b\",\"name\":\"mixamorigLeftHandMiddle4\",\"originalName\":\"mixamorigLeftHandMiddle4\",\"type\":\"Object3D\",\"children\":[],\"visible\":true,\"position\":[-0.000005642384167003911,3.6738576889038086,-0.00003457778802840039],\"rotation\":[3.388131789017205e-21,-2.0514079191315026e-21,3.5527121964928432e-15],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftHandMiddle4\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[-0.0000029646912480529863,2.6398584842681885,-0.000024841601771186106],\"rotation\":[2.119595166050196e-9,2.5622925551745643e-16,1.3776637786122634e-7],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftHandMiddle3\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[-0.0000063361871980305295,3.25907039642334,-0.000034557004255475476],\"rotation\":[-2.119508790698895e-9,3.577347670887817e-17,-1.3776636365037163e-7],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftHandMiddle2\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[0.000008564468771510292,14.409811973571777,-0.0000036896485653414857],\"rotation\":[-7.450615235882196e-9,7.514788204591939e-15,3.227035467806751e-15],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftHandMiddle1\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}},{\"id\":\"589df116-14f3-4e19-aad9-8cfad067c30b\",\"name\":\"mixamorigLeftHandRing1\",\"originalName\":\"mixamorigLeftHandRing1\",\"type\":\"Bone\",\"children\":[{\"id\":\"fc41240f-d240-4e6d-8781-a5c619fc19a6\",\"name\":\"mixamorigLeftHandRing2\",\"originalName\":\"mixamorigLeftHandRing2\",\"type\":\"Bone\",\"children\":[{\"id\":\"dce2d90e-6b18-4b9e-ac8f-2a06efad3d6f\",\"name\":\"mixamorigLeftHandRing3\",\"originalName\":\"mixamorigLeftHandRing3\",\"type\":\"Bone\",\"children\":[{\"id\":\"61fcef59-d355-43dc-9df3-e74b57e438bb\",\"name\":\"mixamorigLeftHandRing4\",\"originalName\":\"mixamorigLeftHandRing4\",\"type\":\"Object3D\",\"children\":[],\"visible\":true,\"position\":[-3.1145231105256244e-7,2.786874771118164,-0.000016113419405883178],\"rotation\":[-8.40939762269952e-9,-9.199289652906417e-16,1.3806332788135523e-7],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftHandRing4\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[0.000012042712114634924,2.1344571113586426,0.000041204191802535206],\"rotation\":[9.59469836914176e-10,-3.4605071436952505e-16,-1.3806317156195336e-7],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftHandRing3\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[-0.000006818522706453223,2.717635154724121,-0.000018459828424965963],\"rotation\":[-6.492065551810837e-9,6.336010546088596e-17,-1.3806331367050052e-7],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftHandRing2\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[0.31885579228401184,13.191451072692871,3.3052594661712646],\"rotation\":[3.811648250022586e-21,7.105425663535107e-15,3.5527119847346064e-15],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftHandRing1\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}},{\"id\":\"21c3dd61-7813-4c66-ad18-6750448aba14\",\"name\":\"mixamorigLeftHandPinky1\",\"originalName\":\"mixamorigLeftHandPinky1\",\"type\":\"Bone\",\"children\":[{\"id\":\"31100d5c-0b68-4d4d-80c1-b5b14d86a1db\",\"name\":\"mixamorigLeftHandPinky2\",\"originalName\":\"mixamorigLeftHandPinky2\",\"type\":\"Bone\",\"children\":[{\"id\":\"842e5328-5af7-455e-b546-6d6c078a6831\",\"name\":\"mixamorigLeftHandPinky3\",\"originalName\":\"mixamorigLeftHandPinky3\",\"type\":\"Object3D\",\"children\":[{\"id\":\"5b1add70-a5ef-4b92-93e6-58c880abaa9a\",\"name\":\"mixamorigLeftHandPinky4\",\"originalName\":\"mixamorigLeftHandPinky4\",\"type\":\"Object3D\",\"children\":[],\"visible\":true,\"position\":[-0.0000033055584935937077,1.668712854385376,-6.415667144210602e-7],\"rotation\":[-0.0000045721189819307875,0.0000045720771739791454,0.0000091441502194222],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftHandPinky4\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[0.0000013133592347003287,1.5406047105789185,-0.000012614065781235695],\"rotation\":[-0.000003099440846226096,0.000003095131887673892,9.32081124131742e-12],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftHandPinky3\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[-0.000007318500593100907,1.5593711137771606,-3.84375937301229e-7],\"rotation\":[0.000003090788838037415,-0.000003095132781961087,-1.3728000300551218e-7],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftHandPinky2\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[-0.5219343900680542,11.636351585388184,5.613723278045654],\"rotation\":[3.811648250022586e-21,7.105425663535107e-15,3.5527119847346064e-15],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftHandPinky1\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[0.000036390061723068357,24.071760177612305,0.000014960925909690559],\"rotation\":[-1.8741865804155858e-7,1.9808967856837297e-7,0.0000013776625750420658],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftHand\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[0.000014758386896573938,23.160293579101562,7.689698122703703e-7],\"rotation\":[1.3848512259112537e-7,-1.9808993808477747e-7,-0.000001267775460218411],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftForeArm\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[-3.178757667541504,14.09467887878418,-0.05926330387592316],\"rotation\":[5.967466165657252e-8,-6.357301174375616e-8,-1.9882233160669305e-22],\"scale\":[1,0.9999999403953552,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftArm\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[6.7287726402282715,11.756622314453125,-2.058460235595703],\"rotation\":[-3.141592502593997,0,-1.5707964611537408],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftShoulder\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}},{\"id\":\"a97e1306-b47c-41c6-9da1-2a6ea69812fb\",\"name\":\"mixamorigRightShoulder\",\"originalName\":\"mixamorigRightShoulder\",\"type\":\"Bone\",\"children\":[{\"id\":\"4a6492b0-8053-4b8b-8354-345ae8e30925\",\"name\":\"mixamorigRightArm\",\"originalName\":\"mixamorigRightArm\",\"type\":\"Bone\",\"children\":[{\"id\":\"28e9f1eb-db9c-4ba3-8fdb-d4c08fd3d1ab\",\"name\":\"mixamorigRightForeArm\",\"originalName\":\"mixamorigRightForeArm\",\"type\":\"Bone\",\"children\":[{\"id\":\"63a2b65a-4032-44d1-b3d0-e6b2a5588e31\",\"name\":\"mixamorigRightHand\",\"originalName\":\"mixamorigRightHand\",\"type\":\"Bone\",\"children\":[{\"id\":\"1117db0b-33c2-4c23-9f13-42d8876815b8\",\"name\":\"mixamorigRightHandThumb1\",\"originalName\":\"mixamorigRightHandThumb1\",\"type\":\"Bone\",\"children\":[{\"id\":\"9928c02c-d877-4378-9106-407c341c561e\",\"name\":\"mixamorigRightHandThumb2\",\"originalName\":\"mixamorigRightHandThumb2\",\"type\":\"Bone\",\"children\":[{\"id\":\"682e6856-892c-400c-b1ba-54624bf1adc8\",\"name\":\"mixamorigRightHandThumb3\",\"originalName\":\"mixamorigRightHandThumb3\",\"type\":\"Bone\",\"children\":[{\"id\":\"af79f672-8fde-44f2-bb85-323d475609eb\",\"name\":\"mixamorigRightHandThumb4\",\"originalName\":\"mixamorigRightHandThumb4\",\"type\":\"Object3D\",\"children\":[],\"visible\":true,\"position\":[-1.6938681602478027,2.9338619709014893,1.6939055919647217],\"rotation\":[-4.440892098500626e-16,-2.6469778023975075e-23,-7.105427357601002e-15],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightHandThumb4\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[-2.1233725547790527,3.6777851581573486,2.1234002113342285],\"rotation\":[-4.440892098500626e-16,4.193106837990697e-23,-1.8884074393099695e-7],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightHandThumb3\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[-1.7474212646484375,3.026641845703125,1.7474533319473267],\"rotation\":[-4.440892098500906e-16,4.175178680187665e-22,1.255358768048612e-7],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightHandThumb2\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[-2.0273284912109375,4.192596435546875,1.4723724126815796],\"rotation\":[7.7621520473408e-38,3.552713678800501e-15,-4.369703133499645e-23],\"scale\":[1,0.9999999403953552,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightHandThumb1\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}},{\"id\":\"cc9f4530-24b2-4149-946f-99d1cbb9da7d\",\"name\":\"mixamorigRightHandIndex1\",\"originalName\":\"mixamorigRightHandIndex1\",\"type\":\"Bone\",\"children\":[{\"id\":\"a42a99fe-3c49-4e1d-8139-7b036e1feda9\",\"name\":\"mixamorigRightHandIndex2\",\"originalName\":\"mixamorigRightHandIndex2\",\"type\":\"Bone\",\"children\":[{\"id\":\"f3a8d1d0-cf09-489e-a858-3a3a42025d85\",\"name\":\"mixamorigRightHandIndex3\",\"originalName\":\"mixamorigRightHandIndex3\",\"type\":\"Bone\",\"children\":[{\"id\":\"e874bfcb-fc35-45b0-8afc-6b1e0a0e9eab\",\"name\":\"mixamorigRightHandIndex4\",\"originalName\":\"mixamorigRightHandIndex4\",\"type\":\"Object3D\",\"children\":[],\"visible\":true,\"position\":[-1.7053025658242404e-13,3.6533203125,0.000026839294150704518],\"rotation\":[-5.551115123125783e-17,1.725633230464837e-29,-1.0587911840678754e-22],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightHandIndex4\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[0.0000152587890625,2.6382675170898438,0.000044953707401873544],\"rotation\":[-5.551115123125783e-17,4.2499881271720747e-29,-1.0587911840678754e-22],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightHandIndex3\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[-1.4210854715202004e-13,3.2162399291992188,0.00002643514562805649],\"rotation\":[3.7251817186501057e-9,4.300944374197804e-22,-1.0587911920787752e-22],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightHandIndex2\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[-0.40802001953125,14.636856079101562,3.083014488220215],\"rotation\":[7.7621520473408e-38,3.552713678800501e-15,-4.369703133499645e-23],\"scale\":[1,0.9999999403953552,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightHandIndex1\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}},{\"id\":\"eebdcb42-e122-4798-bc7b-8664c5fb201e\",\"name\":\"mixamorigRightHandMiddle1\",\"originalName\":\"mixamorigRightHandMiddle1\",\"type\":\"Bone\",\"children\":[{\"id\":\"e74c7409-a6ba-4f44-ac33-2fbb8d10a5b8\",\"name\":\"mixamorigRightHandMiddle2\",\"originalName\":\"mixamorigRightHandMiddle2\",\"type\":\"Bone\",\"children\":[{\"id\":\"c367cce1-ddc5-43b6-bed2-f74812f9f177\",\"name\":\"mixamorigRightHandMiddle3\",\"originalName\":\"mixamorigRightHandMiddle3\",\"type\":\"Bone\",\"children\":[{\"id\":\"432ddb9e-f5f5-4f13-956a-5ea6faf1a248\",\"name\":\"mixamorigRightHandMiddle4\",\"originalName\":\"mixamorigRightHandMiddle4\",\"type\":\"Object3D\",\"children\":[],\"visible\":true,\"position\":[-0.0426177978515625,3.1308517456054688,0.057592108845710754],\"rotation\":[7.137328061901371e-9,-1.1368683772161603e-13,-1.5481065836648336e-22],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightHandMiddle4\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[0.00000842399094835855,2.672478437423706,0.000013955403119325638],\"rotation\":[0.0000014230604392677553,-0.0000014274046407078807,2.0312835350967182e-12],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightHandMiddle3\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[-1.4210854715202004e-13,3.126739501953125,-1.928622452851414e-7],\"rotation\":[-0.0000014274050954566812,0.000001427404868083006,4.492107714050362e-22],\"scale\":[1,0.9999999403953552,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightHandMiddle2\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[0.000030517578125,14.530448913574219,-0.000024365299395867623],\"rotation\":[7.4505082103826226e-9,3.5527136788005005e-15,-7.016654982373371e-23],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightHandMiddle1\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}},{\"id\":\"0142edef-4d0b-4101-8d48-e6a8da198b44\",\"name\":\"mixamorigRightHandRing1\",\"originalName\":\"mixamorigRightHandRing1\",\"type\":\"Bone\",\"children\":[{\"id\":\"62a0a4dd-b1ae-4ac0-a848-bb69c322fdcb\",\"name\":\"mixamorigRightHandRing2\",\"originalName\":\"mixamorigRightHandRing2\",\"type\":\"Bone\",\"children\":[{\"id\":\"b248b4fb-e303-42c1-8b8e-e05f417db33e\",\"name\":\"mixamorigRightHandRing3\",\"originalName\":\"mixamorigRightHandRing3\",\"type\":\"Bone\",\"children\":[{\"id\":\"6a40f254-cb7b-458c-8d3f-ad3fb4dfbd69\",\"name\":\"mixamorigRightHandRing4\",\"originalName\":\"mixamorigRightHandRing4\",\"type\":\"Object3D\",\"children\":[],\"visible\":true,\"position\":[-1.7053025658242404e-13,3.0684356689453125,-1.9942845597142878e-7],\"rotation\":[-0.00000186480417596883,0.0000018648040622819926,3.426917512463947e-20],\"scale\":[1,0.9999999403953552,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightHandRing4\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[-0.0000152587890625,2.1970672607421875,0.00004081546649103984],\"rotation\":[5.951077674814654e-52,2.2482535798798836e-29,-5.293955920339377e-23],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightHandRing3\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[0.0000152587890625,2.5128021240234375,-0.00003866649421979673],\"rotation\":[7.45125383616596e-9,2.2491570445250847e-22,-5.293956004134578e-23],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightHandRing2\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[0.195770263671875,12.771110534667969,-2.966010093688965],\"rotation\":[7.762150926302029e-38,3.552713678800501e-15,-4.369702502410921e-23],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightHandRing1\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}},{\"id\":\"e780f925-a7de-4718-a572-7d6ff90ef10b\",\"name\":\"mixamorigRightHandPinky1\",\"originalName\":\"mixamorigRightHandPinky1\",\"type\":\"Bone\",\"children\":[{\"id\":\"b442c33e-b65d-4bee-b65c-f5ebb09992dd\",\"name\":\"mixamorigRightHandPinky2\",\"originalName\":\"mixamorigRightHandPinky2\",\"type\":\"Bone\",\"children\":[{\"id\":\"e0cceb46-ca56-4efe-8015-3038bd153718\",\"name\":\"mixamorigRightHandPinky3\",\"originalName\":\"mixamorigRightHandPinky3\",\"type\":\"Object3D\",\"children\":[{\"id\":\"fff90920-e7f9-42cc-ad7b-d63a267c3fe5\",\"name\":\"mixamorigRightHandPinky4\",\"originalName\":\"mixamorigRightHandPinky4\",\"type\":\"Object3D\",\"children\":[],\"visible\":true,\"position\":[-1.4210854715202004e-13,1.6682206392288208,0.000038587259041378275],\"rotation\":[-4.440892098500626e-16,9.071900433551523e-30,-1.0587911840678754e-22],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightHandPinky4\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[-1.4210854715202004e-13,1.3640824556350708,0.000023319789761444554],\"rotation\":[9.396437562695499e-53,3.5498733211781686e-30,-5.293956551428101e-23],\"scale\":[1,0.9999999403953552,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightHandPinky3\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[-0.0000152587890625,1.679519772529602,0.000027127389330416918],\"rotation\":[5.605193857299268e-45,2.117582368135751e-22,-5.293955920339377e-23],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightHandPinky2\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[-0.461517333984375,11.750785827636719,-5.650591850280762],\"rotation\":[7.762150926302029e-38,3.552713678800501e-15,-4.369702502410921e-23],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightHandPinky1\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[-0.000015491908925469033,24.143409729003906,-0.000017118247342295945],\"rotation\":[-4.4703483581543e-8,3.9500395843106195e-8,-2.3822801641527216e-22],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightHand\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[0,23.160200119018555,0],\"rotation\":[3.950039939581987e-8,-3.950039939581987e-8,-2.0431295496832484e-23],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightForeArm\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[-3.183563232421875,14.057525634765625,-0.059259891510009766],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightArm\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[-6.82377815246582,11.756622314453125,-2.117722511291504],\"rotation\":[0,0,1.570796461153735],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightShoulder\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[-0.05054927244782448,12.654045104980469,-1.8560817241668701],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:Spine2\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[-0.044230587780475616,11.072288513183594,-1.6240708827972412],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:Spine1\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[-0.038121312856674194,9.490516662597656,-1.3920626640319824],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:Spine\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}},{\"id\":\"52dd6e76-13ac-4206-ae39-96aede26f0c7\",\"name\":\"mixamorigLeftUpLeg\",\"originalName\":\"mixamorigLeftUpLeg\",\"type\":\"Bone\",\"children\":[{\"id\":\"75de7452-bb24-4fcb-96b0-86f27b7ac904\",\"name\":\"mixamorigLeftLeg\",\"originalName\":\"mixamorigLeftLeg\",\"type\":\"Bone\",\"children\":[{\"id\":\"59c86ddb-ea5e-46aa-94cc-2c3bf883946d\",\"name\":\"mixamorigLeftFoot\",\"originalName\":\"mixamorigLeftFoot\",\"type\":\"Bone\",\"children\":[{\"id\":\"5905f1fb-933e-49dc-88da-4a436d4caba9\",\"name\":\"mixamorigLeftToeBase\",\"originalName\":\"mixamorigLeftToeBase\",\"type\":\"Bone\",\"children\":[{\"id\":\"b4a052b0-bf52-4b79-8fe0-a081cec37c1f\",\"name\":\"mixamorigLeftToe_End\",\"originalName\":\"mixamorigLeftToe_End\",\"type\":\"Object3D\",\"children\":[],\"visible\":true,\"position\":[1.2230501174926758,7.973636627197266,-0.044495463371276855],\"rotation\":[0,-8.470330482284962e-22,0],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftToe_End\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[2.5994625091552734,15.813891410827637,11.814322471618652],\"rotation\":[0,7.105429051666896e-15,0],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftToeBase\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[-0.10231423377990723,44.292152404785156,4.219776153564453],\"rotation\":[-1.570796461153737,-5.0242962053173926e-15,-8.756513750268524e-8],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftFoot\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[0.116408571600914,43.34452819824219,-1.323285698890686],\"rotation\":[0,-6.357302595461082e-8,0],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftLeg\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[9.61827278137207,-5.2722930908203125,-1.0108859539031982],\"rotation\":[-3.141592653589793,1.5099580252808722e-7,0],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftUpLeg\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}},{\"id\":\"1ec24091-d287-4067-bd70-53e9fee2def1\",\"name\":\"mixamorigRightUpLeg\",\"originalName\":\"mixamorigRightUpLeg\",\"type\":\"Bone\",\"children\":[{\"id\":\"cff07d7f-af48-4bd6-861c-408a04feaf5e\",\"name\":\"mixamorigRightLeg\",\"originalName\":\"mixamorigRightLeg\",\"type\":\"Bone\",\"children\":[{\"id\":\"524b7e7d-1702-4128-bade-7448e9699a94\",\"name\":\"mixamorigRightFoot\",\"originalName\":\"mixamorigRightFoot\",\"type\":\"Bone\",\"children\":[{\"id\":\"fb4c04a1-a89b-4ae1-8840-166491d1714c\",\"name\":\"mixamorigRightToeBase\",\"originalName\":\"mixamorigRightToeBase\",\"type\":\"Bone\",\"children\":[{\"id\":\"84be316a-5673-428d-a340-93f5bc89aca6\",\"name\":\"mixamorigRightToe_End\",\"originalName\":\"mixamorigRightToe_End\",\"type\":\"Object3D\",\"children\":[],\"visible\":true,\"position\":[-1.2230539321899414,7.927060127258301,-0.04439425468444824],\"rotation\":[-2.5177521153519088e-29,-8.470330482284962e-22,-5.94487339355965e-8],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightToe_End\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[-2.5994691848754883,15.999810218811035,11.814545631408691],\"rotation\":[0,7.105429051666896e-15,0],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightToeBase\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[0.11710333824157715,44.33141326904297,4.72718620300293],\"rotation\":[-1.570796461153737,-1.0048592410634785e-14,-8.728997187240861e-8],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightFoot\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[-0.10397404432296753,43.30485153198242,-2.0317044258117676],\"rotation\":[0,-6.357302595461082e-8,0],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightLeg\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[-9.940966606140137,-5.2727203369140625,-1.2116553783416748],\"rotation\":[-3.141592653589793,1.5099580252808722e-7,0],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightUpLeg\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[-0.16019955277442932,1.1474881172180176,106.13076782226562],\"rotation\":[-1.570796461153735,0,-3.141592653589793],\"scale\":[1,0.9999999403953552,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:Hips\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[0,0,0],\"rotation\":[-1.5707962925663537,0,0],\"scale\":[0.009999999776482582,0.009999999776482582,0.009999999776482582],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"Character\",\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}}],\"visible\":true,\"position\":[0,0,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"background_color\":[0.05087608844041824,0.05087608844041824,0.05087608844041824],\"frames_per_second\":30,\"root\":true,\"isGltfRoot\":true,\"animations\":[\"Idle\",\"Run\",\"TPose\",\"Walk\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"623dcbda-2fb1-4bc5-87b7-2f10e9df9321\"}},\"activeAnimations\":[\"Idle\"]},{\"id\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\",\"name\":\"外部模型 2\",\"type\":\"GLTF\",\"position\":[0,0.5,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"visible\":true,\"url\":\"/uploads/7d11af65-6fb5-4b12-80c1-bb5dfa0b4865.glb\",\"loadStatus\":\"success\",\"castShadow\":false,\"structure\":{\"id\":\"42f64bfa-1fb9-4e3e-ac7b-7d52c0da140c\",\"name\":\"Scene\",\"originalName\":\"Scene\",\"type\":\"Group\",\"children\":[{\"id\":\"de1be5b1-b235-4764-b16e-29ecb29b1f51\",\"name\":\"Character\",\"originalName\":\"Character\",\"type\":\"Object3D\",\"children\":[{\"id\":\"f1e461ee-b00e-4b78-a77a-8cc2a05a9dea\",\"name\":\"Ch03\",\"originalName\":\"Ch03\",\"type\":\"SkinnedMesh\",\"children\":[],\"visible\":true,\"position\":[0,0,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"material\":{\"color\":\"#ffffff\",\"emissive\":\"#000000\",\"metalness\":0.5,\"roughness\":1,\"opacity\":1,\"transparent\":false,\"wireframe\":false,\"map\":{\"metadata\":{\"version\":4.7,\"type\":\"Texture\",\"generator\":\"Texture.toJSON\"},\"uuid\":\"a7147bb4-1503-47d1-96b4-6e2eb17ccfa7\",\"name\":\"Ch03_1001_Diffuse\",\"image\":\"8cf8b5a8-8266-432e-86df-e9054f2d5a8c\",\"mapping\":300,\"channel\":0,\"repeat\":[1,1],\"offset\":[0,0],\"center\":[0,0],\"rotation\":0,\"wrap\":[1000,1000],\"format\":1023,\"internalFormat\":null,\"type\":1009,\"colorSpace\":\"srgb\",\"minFilter\":1008,\"magFilter\":1006,\"anisotropy\":1,\"flipY\":false,\"generateMipmaps\":true,\"premultiplyAlpha\":false,\"unpackAlignment\":4,\"userData\":{\"mimeType\":\"image/png\"}},\"mapUrl\":\"a7147bb4-1503-47d1-96b4-6e2eb17ccfa7\"},\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"Ch03\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}},{\"id\":\"9539ece2-1393-4c81-b677-92d821ab4cc8\",\"name\":\"mixamorigHips\",\"originalName\":\"mixamorigHips\",\"type\":\"Bone\",\"children\":[{\"id\":\"fccce66e-1832-4eaa-bde6-f3fbfbd947ac\",\"name\":\"mixamorigSpine\",\"originalName\":\"mixamorigSpine\",\"type\":\"Bone\",\"children\":[{\"id\":\"c32d84b5-449d-40bb-9a8d-4783ea7ba3cd\",\"name\":\"mixamorigSpine1\",\"originalName\":\"mixamorigSpine1\",\"type\":\"Bone\",\"children\":[{\"id\":\"dedf6ea1-ca6e-4609-8204-10e9f38f7719\",\"name\":\"mixamorigSpine2\",\"originalName\":\"mixamorigSpine2\",\"type\":\"Bone\",\"children\":[{\"id\":\"f527b30a-c5fd-4bf0-ab18-768c492a6858\",\"name\":\"mixamorigNeck\",\"originalName\":\"mixamorigNeck\",\"type\":\"Bone\",\"children\":[{\"id\":\"133c34de-6596-43b5-9df7-bda5781362ac\",\"name\":\"mixamorigHead\",\"originalName\":\"mixamorigHead\",\"type\":\"Bone\",\"children\":[{\"id\":\"f3780c70-dec0-4fb3-a844-02d7e0cfa494\",\"name\":\"mixamorigHeadTop_End\",\"originalName\":\"mixamorigHeadTop_End\",\"type\":\"Bone\",\"children\":[],\"visible\":true,\"position\":[0,21.748823165893555,-4.201760768890381],\"rotation\":[1.4210853868169056e-14,0,0],\"scale\":[1,1.0000001192092896,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:HeadTop_End\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[0,5.998900890350342,-1.158957839012146],\"rotation\":[1.4210853868169056e-14,0,0],\"scale\":[1,1.0000001192092896,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:Head\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[0,8.46873950958252,4.0605664253234863e-7],\"rotation\":[0.005655418727137581,0,0],\"scale\":[1,0.9999999403953552,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:Neck\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}},{\"id\":\"85583901-9797-475e-95c6-8c75863c5868\",\"name\":\"mixamorigLeftShoulder\",\"originalName\":\"mixamorigLeftShoulder\",\"type\":\"Bone\",\"children\":[{\"id\":\"4b6529b8-3382-44ca-8234-0e535b5233b7\",\"name\":\"mixamorigLeftArm\",\"originalName\":\"mixamorigLeftArm\",\"type\":\"Bone\",\"children\":[{\"id\":\"98b75728-b708-41c3-b000-f0f3f8cf56cc\",\"name\":\"mixamorigLeftForeArm\",\"originalName\":\"mixamorigLeftForeArm\",\"type\":\"Bone\",\"children\":[{\"id\":\"7696f904-2860-45dc-9164-d7d10d78680b\",\"name\":\"mixamorigLeftHand\",\"originalName\":\"mixamorigLeftHand\",\"type\":\"Bone\",\"children\":[{\"id\":\"afbab933-a39d-45fb-ae91-851fb4dcbebe\",\"name\":\"mixamorigLeftHandThumb1\",\"originalName\":\"mixamorigLeftHandThumb1\",\"type\":\"Bone\",\"children\":[{\"id\":\"08dcb0a5-0af1-4e9e-8661-50f8eee99591\",\"name\":\"mixamorigLeftHandThumb2\",\"originalName\":\"mixamorigLeftHandThumb2\",\"type\":\"Bone\",\"children\":[{\"id\":\"1fb1a8f9-d286-4001-b9db-1944127db9cc\",\"name\":\"mixamorigLeftHandThumb3\",\"originalName\":\"mixamorigLeftHandThumb3\",\"type\":\"Bone\",\"children\":[{\"id\":\"0e1df60f-5dd1-416c-8e48-da4471f64710\",\"name\":\"mixamorigLeftHandThumb4\",\"originalName\":\"mixamorigLeftHandThumb4\",\"type\":\"Bone\",\"children\":[],\"visible\":true,\"position\":[0.39212703704833984,2.6770806312561035,0.0000015497207641601562],\"rotation\":[-2.2351777252336471e-7,-9.723005661573352e-7,-7.878988931013631e-7],\"scale\":[1.0000001192092896,1.0000001192092896,1.0000001192092896],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftHandThumb4\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[0.05009937286376953,3.105468511581421,0.00004661083221435547],\"rotation\":[-0.039537110660874654,-1.5839458342898286e-7,-4.708382808208977e-7],\"scale\":[1.0000001192092896,1,0.9999999403953552],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftHandThumb3\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[-0.4422152042388916,2.5202419757843018,-0.00010275840759277344],\"rotation\":[-0.06106276224358295,-3.3781207901149584e-8,-3.589930953083418e-7],\"scale\":[1.0000001192092896,1,1.0000001192092896],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftHandThumb2\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[-2.1452667713165283,2.098231792449951,1.1066794395446777],\"rotation\":[0.2981268932815387,0.2029892461226659,0.5806248165035046],\"scale\":[0.9999999403953552,0.9999998807907104,0.9999998211860657],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftHandThumb1\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}},{\"id\":\"36b9f4cf-b44a-4585-9f54-cd6513131b6a\",\"name\":\"mixamorigLeftHandIndex1\",\"originalName\":\"mixamorigLeftHandIndex1\",\"type\":\"Bone\",\"children\":[{\"id\":\"3f3381af-4f46-45ed-8949-9d86291f46fe\",\"name\":\"mixamorigLeftHandIndex2\",\"originalName\":\"mixamorigLeftHandIndex2\",\"type\":\"Bone\",\"children\":[{\"id\":\"7fedc5b8-0c3f-49c0-9b88-d755a3b13947\",\"name\":\"mixamorigLeftHandIndex3\",\"originalName\":\"mixamorigLeftHandIndex3\",\"type\":\"Bone\",\"children\":[{\"id\":\"6e8add25-33a1-42f8-90ba-97f52a820718\",\"name\":\"mixamorigLeftHandIndex4\",\"originalName\":\"mixamorigLeftHandIndex4\",\"type\":\"Bone\",\"children\":[],\"visible\":true,\"position\":[0.00009298324584960938,2.3343498706817627,-0.000007718801498413086],\"rotation\":[4.7963108045040407e-8,-3.8111467235224235e-8,-5.221227092540813e-8],\"scale\":[1,1,1.0000001192092896],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftHandIndex4\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[0.0004744529724121094,2.7485790252685547,0.000042945146560668945],\"rotation\":[-0.007543471052050753,-1.6881562875385167e-7,-9.353750249999728e-8],\"scale\":[0.9999999403953552,0.9999999403953552,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftHandIndex3\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[-0.0005679130554199219,3.000124931335449,-0.00001862645149230957],\"rotation\":[0.0163340862070309,1.0075681573780827e-7,4.499090960181954e-7],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftHandIndex2\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[-2.5610508918762207,7.100058078765869,0.048573970794677734],\"rotation\":[0.029940543167141745,0.003303625742571313,0.10984811855766728],\"scale\":[0.9999998807907104,0.9999998211860657,0.9999997615814209],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftHandIndex1\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}},{\"id\":\"f6f3e116-fd80-4671-903c-5f4f94742b74\",\"name\":\"mixamorigLeftHandMiddle1\",\"originalName\":\"mixamorigLeftHandMiddle1\",\"type\":\"Bone\",\"children\":[{\"id\":\"ee48474c-2b94-462d-9ed4-020e5482ef09\",\"name\":\"mixamorigLeftHandMiddle2\",\"originalName\":\"mixamorigLeftHandMiddle2\",\"type\":\"Bone\",\"children\":[{\"id\":\"445176a5-1885-4820-85a4-bbe6cfb7e021\",\"name\":\"mixamorigLeftHandMiddle3\",\"originalName\":\"mixamorigLeftHandMiddle3\",\"type\":\"Bone\",\"children\":[{\"id\":\"32caf2de-3744-4de3-aff9-e1e53dd1a099\",\"name\":\"mixamorigLeftHandMiddle4\",\"originalName\":\"mixamorigLeftHandMiddle4\",\"type\":\"Bone\",\"children\":[],\"visible\":true,\"position\":[-0.0036218464374542236,2.752042770385742,-0.000006839632987976074],\"rotation\":[-1.2514647047436988e-9,-8.411007002724489e-9,1.164153213006309e-9],\"scale\":[0.9999999403953552,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftHandMiddle4\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[0.005511611700057983,3.1908485889434814,0.000046230852603912354],\"rotation\":[-0.14079000940525163,6.023670127919238e-7,1.5958493121927036e-7],\"scale\":[0.9999999403953552,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftHandMiddle3\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[-0.001895606517791748,3.3795440196990967,0.00004420429468154907],\"rotation\":[0.10419001343105509,-7.587796413426014e-7,5.497302974816215e-8],\"scale\":[1,0.9999998807907104,0.9999998807907104],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftHandMiddle2\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[-0.8249121308326721,7.382659912109375,-0.10478067398071289],\"rotation\":[-0.010516105770117433,-0.00022252553334377052,0.02120971144634614],\"scale\":[0.9999999403953552,0.9999997615814209,0.9999997615814209],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftHandMiddle1\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}},{\"id\":\"3a68e761-df76-4388-8047-e949cafad7a4\",\"name\":\"mixamorigLeftHandRing1\",\"originalName\":\"mixamorigLeftHandRing1\",\"type\":\"Bone\",\"children\":[{\"id\":\"af3de43a-748e-4fa4-9e42-8c919c9be9fb\",\"name\":\"mixamorigLeftHandRing2\",\"originalName\":\"mixamorigLeftHandRing2\",\"type\":\"Bone\",\"children\":[{\"id\":\"f2cfa193-1eac-4b67-9de9-b05b533a5215\",\"name\":\"mixamorigLeftHandRing3\",\"originalName\":\"mixamorigLeftHandRing3\",\"type\":\"Bone\",\"children\":[{\"id\":\"e5bcf33d-2076-4d38-aa91-3890c547874b\",\"name\":\"mixamorigLeftHandRing4\",\"originalName\":\"mixamorigLeftHandRing4\",\"type\":\"Bone\",\"children\":[],\"visible\":true,\"position\":[0.0035468339920043945,2.280717372894287,-0.00000642240047454834],\"rotation\":[8.149073243645914e-8,4.481990591392956e-8,-2.3283087068313916e-9],\"scale\":[0.9999998807907104,0.9999999403953552,0.9999999403953552],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftHandRing4\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[0.0007455348968505859,2.6809823513031006,-0.000010624527931213379],\"rotation\":[0.056944161469210774,-4.939294359616569e-7,1.3139233546632492e-7],\"scale\":[0.9999999403953552,0.9999998211860657,0.9999998807907104],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftHandRing3\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[-0.004294157028198242,2.8452260494232178,0.00002925097942352295],\"rotation\":[0.07966509608321164,2.354463090975494e-7,-9.578414450340134e-8],\"scale\":[1,1.0000001192092896,1.0000001192092896],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftHandRing2\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[0.887788712978363,7.537555694580078,0.09634143859148026],\"rotation\":[-0.06999593602556928,0.0033797338706330763,-0.0481662334037998],\"scale\":[0.9999999403953552,0.9999998807907104,0.9999998211860657],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftHandRing1\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}},{\"id\":\"29422427-58a0-416d-97ef-b28168cf8b58\",\"name\":\"mixamorigLeftHandPinky1\",\"originalName\":\"mixamorigLeftHandPinky1\",\"type\":\"Bone\",\"children\":[{\"id\":\"deb6ffb6-1edc-47e1-99c7-68baf6b949a0\",\"name\":\"mixamorigLeftHandPinky2\",\"originalName\":\"mixamorigLeftHandPinky2\",\"type\":\"Bone\",\"children\":[{\"id\":\"2fc8a80d-1600-45a6-ae02-e1bced1c7f6d\",\"name\":\"mixamorigLeftHandPinky3\",\"originalName\":\"mixamorigLeftHandPinky3\",\"type\":\"Bone\",\"children\":[{\"id\":\"99dc489d-5ac8-44dd-a9d1-31b453115ac0\",\"name\":\"mixamorigLeftHandPinky4\",\"originalName\":\"mixamorigLeftHandPinky4\",\"type\":\"Bone\",\"children\":[],\"visible\":true,\"position\":[-0.0019080638885498047,1.6595487594604492,0.000004112720489501953],\"rotation\":[3.7252898449401482e-9,-1.396983665032097e-9,-1.3504175552965516e-8],\"scale\":[1.0000001192092896,1.0000001192092896,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftHandPinky4\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[0.001383066177368164,1.951070785522461,0.00002867216244339943],\"rotation\":[-0.08215137991293249,5.210741208333995e-7,-1.859788020308418e-7],\"scale\":[1.0000001192092896,1.0000001192092896,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftHandPinky3\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[0.0005271434783935547,2.4802310466766357,-0.00009861588478088379],\"rotation\":[0.021997379791496033,-2.2380683164715997e-7,7.152381240595074e-10],\"scale\":[0.9999999403953552,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftHandPinky2\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[2.49822735786438,7.361696720123291,0.02873176336288452],\"rotation\":[0.012463693419527517,-0.0009456239297436922,-0.07575673436179088],\"scale\":[0.9999998211860657,0.9999998211860657,0.9999998211860657],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftHandPinky1\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[0.00004459172487258911,21.595096588134766,0.00006619282066822052],\"rotation\":[-0.03106957038999652,0.1244584606408175,-0.05490263485262393],\"scale\":[0.9999998807907104,0.9999998211860657,0.9999999403953552],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftHand\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[-0.00000432133674621582,24.203598022460938,0.00007204338908195496],\"rotation\":[-0.01718968425727616,-0.00035313045331653584,0.02054633307230182],\"scale\":[1,1.0000001192092896,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftForeArm\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[0.0000029802322387695312,7.189702987670898,-0.00008010677993297577],\"rotation\":[-0.3001697432240036,-0.0048426203753427705,0.015643721983675613],\"scale\":[0.9999999403953552,0.9999999403953552,0.9999998807907104],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftArm\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[3.414613723754883,7.34335994720459,-0.017398428171873093],\"rotation\":[1.569119823195488,-0.3178259763660339,-1.5761570475151827],\"scale\":[1,0.9999998807907104,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftShoulder\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}},{\"id\":\"0a4e2571-3998-40ac-912e-7294ba07cce5\",\"name\":\"mixamorigRightShoulder\",\"originalName\":\"mixamorigRightShoulder\",\"type\":\"Bone\",\"children\":[{\"id\":\"c5d9b592-9682-463c-b0fa-2cf64b9827ec\",\"name\":\"mixamorigRightArm\",\"originalName\":\"mixamorigRightArm\",\"type\":\"Bone\",\"children\":[{\"id\":\"d7df1cf6-1149-4793-ac26-a37326a627f3\",\"name\":\"mixamorigRightForeArm\",\"originalName\":\"mixamorigRightForeArm\",\"type\":\"Bone\",\"children\":[{\"id\":\"9e9201cf-3f15-4b9c-a4f8-3301606d2c2d\",\"name\":\"mixamorigRightHand\",\"originalName\":\"mixamorigRightHand\",\"type\":\"Bone\",\"children\":[{\"id\":\"9966c960-486e-4f69-a745-e3ddf8733648\",\"name\":\"mixamorigRightHandThumb1\",\"originalName\":\"mixamorigRightHandThumb1\",\"type\":\"Bone\",\"children\":[{\"id\":\"5d530d3b-22d3-4ce2-a6fc-7a8a3d67bff7\",\"name\":\"mixamorigRightHandThumb2\",\"originalName\":\"mixamorigRightHandThumb2\",\"type\":\"Bone\",\"children\":[{\"id\":\"f5743607-c3ab-4211-9e16-7a59b9c88714\",\"name\":\"mixamorigRightHandThumb3\",\"originalName\":\"mixamorigRightHandThumb3\",\"type\":\"Bone\",\"children\":[{\"id\":\"9ce59a83-6f94-44a0-8200-30026c427394\",\"name\":\"mixamorigRightHandThumb4\",\"originalName\":\"mixamorigRightHandThumb4\",\"type\":\"Bone\",\"children\":[],\"visible\":true,\"position\":[-0.38599681854248047,2.6252191066741943,-0.000007987022399902344],\"rotation\":[-3.725290653039393e-8,-7.450582407975145e-9,1.8626452324976376e-9],\"scale\":[1,0.9999999403953552,0.9999999403953552],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightHandThumb4\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[-0.052065372467041016,3.059290647506714,0.00005936622619628906],\"rotation\":[-0.018561084448530503,2.1568661203876326e-7,-7.598858645507335e-7],\"scale\":[0.9999998807907104,0.9999998211860657,0.9999998807907104],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightHandThumb3\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[0.4380660057067871,2.5709056854248047,-0.000033974647521972656],\"rotation\":[-0.07426830245444245,-1.383543128615114e-7,9.125463593053703e-7],\"scale\":[1,0.9999998211860657,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightHandThumb2\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[2.1654157638549805,2.135298013687134,1.1745284795761108],\"rotation\":[0.31107318622655034,-0.2113409993508659,-0.5780993083900489],\"scale\":[1,0.9999999403953552,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightHandThumb1\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}},{\"id\":\"b70c50ca-4adf-49fb-bc4f-3def8520db57\",\"name\":\"mixamorigRightHandIndex1\",\"originalName\":\"mixamorigRightHandIndex1\",\"type\":\"Bone\",\"children\":[{\"id\":\"bd7e8ae7-5574-439a-8df1-00fa041306e2\",\"name\":\"mixamorigRightHandIndex2\",\"originalName\":\"mixamorigRightHandIndex2\",\"type\":\"Bone\",\"children\":[{\"id\":\"0cc3839e-4446-455e-bdcb-783e4f445b48\",\"name\":\"mixamorigRightHandIndex3\",\"originalName\":\"mixamorigRightHandIndex3\",\"type\":\"Bone\",\"children\":[{\"id\":\"83a0e637-d062-4117-bc08-c57ee7eab61a\",\"name\":\"mixamorigRightHandIndex4\",\"originalName\":\"mixamorigRightHandIndex4\",\"type\":\"Bone\",\"children\":[],\"visible\":true,\"position\":[0.006544351577758789,2.363534927368164,0.000013768672943115234],\"rotation\":[2.4121254686053947e-7,-1.257285408336889e-8,5.58793696405803e-9],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightHandIndex4\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[-0.005539894104003906,2.801569700241089,0.00005072355270385742],\"rotation\":[-0.11901351317097378,-6.154754828494552e-7,-4.271092518491166e-7],\"scale\":[0.9999998807907104,0.9999999403953552,0.9999999403953552],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightHandIndex3\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[-0.001004934310913086,2.9492788314819336,-0.000048607587814331055],\"rotation\":[0.04102774727608387,4.644515076187087e-7,5.4235181267969014e-8],\"scale\":[1.0000001192092896,1,0.9999999403953552],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightHandIndex2\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[2.56697416305542,7.105027675628662,0.03949528932571411],\"rotation\":[0.03418483714372292,-0.004393111771535244,-0.12775247186499336],\"scale\":[1,0.9999999403953552,1.0000001192092896],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightHandIndex1\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}},{\"id\":\"d1a9ae90-48d7-4341-9e98-fa9e0bbb2359\",\"name\":\"mixamorigRightHandMiddle1\",\"originalName\":\"mixamorigRightHandMiddle1\",\"type\":\"Bone\",\"children\":[{\"id\":\"b6f8509c-e314-4cb7-808c-590b64da908e\",\"name\":\"mixamorigRightHandMiddle2\",\"originalName\":\"mixamorigRightHandMiddle2\",\"type\":\"Bone\",\"children\":[{\"id\":\"7b9eedbb-5399-459f-893d-84c19890da12\",\"name\":\"mixamorigRightHandMiddle3\",\"originalName\":\"mixamorigRightHandMiddle3\",\"type\":\"Bone\",\"children\":[{\"id\":\"421bd772-15ac-466b-8b4b-d9dfc447ce56\",\"name\":\"mixamorigRightHandMiddle4\",\"originalName\":\"mixamorigRightHandMiddle4\",\"type\":\"Bone\",\"children\":[],\"visible\":true,\"position\":[-0.009229421615600586,2.6915090084075928,2.384185791015625e-7],\"rotation\":[1.5512341633439067e-8,-9.778887033462524e-9,7.584671822893907e-17],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightHandMiddle4\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[-0.00004875659942626953,3.1891958713531494,-0.000007286667823791504],\"rotation\":[0.0824835755258908,-3.777322683496821e-7,1.2583002977163154e-9],\"scale\":[0.9999999403953552,1.0000001192092896,1.0000001192092896],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightHandMiddle3\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[0.009276270866394043,3.3110909461975098,0.000008977949619293213],\"rotation\":[0.06673904023407672,1.5730101226125678e-7,8.242001096063791e-8],\"scale\":[1,1,1.0000001192092896],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightHandMiddle2\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[0.8360995650291443,7.262783527374268,-0.11012548953294754],\"rotation\":[0.010331533697328548,-0.0003517350637641554,-0.03405214532733262],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightHandMiddle1\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}},{\"id\":\"8a3f584c-187a-4f16-8912-5b3fe6f4e65a\",\"name\":\"mixamorigRightHandRing1\",\"originalName\":\"mixamorigRightHandRing1\",\"type\":\"Bone\",\"children\":[{\"id\":\"d3819b8f-a4d9-4a07-8a56-4cad8c29496c\",\"name\":\"mixamorigRightHandRing2\",\"originalName\":\"mixamorigRightHandRing2\",\"type\":\"Bone\",\"children\":[{\"id\":\"f7943abd-0147-4b51-9d3b-bf4377490dae\",\"name\":\"mixamorigRightHandRing3\",\"originalName\":\"mixamorigRightHandRing3\",\"type\":\"Bone\",\"children\":[{\"id\":\"05baa9ee-48e3-41e4-92a4-f1238ae0a782\",\"name\":\"mixamorigRightHandRing4\",\"originalName\":\"mixamorigRightHandRing4\",\"type\":\"Bone\",\"children\":[],\"visible\":true,\"position\":[-0.001432657241821289,2.353175163269043,0.000001773238182067871],\"rotation\":[1.0943040248048318e-7,-8.789358144729517e-9,-8.381902690627834e-9],\"scale\":[0.9999999403953552,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightHandRing4\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[-0.00005984306335449219,2.7356810569763184,-0.00007186084985733032],\"rotation\":[0.01360357991259237,-2.766597581062424e-7,-9.206970222064598e-8],\"scale\":[1,0.9999999403953552,0.9999998807907104],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightHandRing3\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[0.001493692398071289,2.815547466278076,0.0000252649188041687],\"rotation\":[0.012375047350313056,-2.8968734252170315e-8,9.727333239659906e-8],\"scale\":[1,1.000000238418579,1.0000001192092896],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightHandRing2\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[-0.985297441482544,7.492690086364746,-0.018834099173545837],\"rotation\":[-0.015515614486381047,-0.00028632297195986696,0.01842427109997836],\"scale\":[0.9999999403953552,0.9999998807907104,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightHandRing1\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}},{\"id\":\"bb406aff-853d-4cbe-8d54-2467fea4c7a6\",\"name\":\"mixamorigRightHandPinky1\",\"originalName\":\"mixamorigRightHandPinky1\",\"type\":\"Bone\",\"children\":[{\"id\":\"6e563ef6-e043-42a0-ad97-54a001a52280\",\"name\":\"mixamorigRightHandPinky2\",\"originalName\":\"mixamorigRightHandPinky2\",\"type\":\"Bone\",\"children\":[{\"id\":\"c3137dc2-7303-4df8-abad-65cc245aae26\",\"name\":\"mixamorigRightHandPinky3\",\"originalName\":\"mixamorigRightHandPinky3\",\"type\":\"Bone\",\"children\":[{\"id\":\"71eed0d3-74a6-4ecf-af12-972b911daa2c\",\"name\":\"mixamorigRightHandPinky4\",\"originalName\":\"mixamorigRightHandPinky4\",\"type\":\"Bone\",\"children\":[],\"visible\":true,\"position\":[0.007103681564331055,1.6120927333831787,-0.000006794929504394531],\"rotation\":[8.130445520796793e-7,3.725287141525593e-8,-6.891788566567896e-8],\"scale\":[1.0000001192092896,1,1.0000001192092896],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightHandPinky4\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[-0.006404399871826172,1.9660403728485107,-0.000011086463928222656],\"rotation\":[-0.1701610959373459,1.821186727568386e-7,1.5799103759872048e-7],\"scale\":[1,1,1.0000001192092896],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightHandPinky3\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[-0.0007040500640869141,2.4493250846862793,-0.00001704692840576172],\"rotation\":[0.06814435739332043,-1.3428954018450502e-7,3.344153953156261e-7],\"scale\":[1.0000001192092896,1.0000001192092896,0.9999999403953552],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightHandPinky2\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[-2.4178037643432617,7.441832542419434,0.09106330573558807],\"rotation\":[-0.021762056809234407,-0.001734306832581778,0.07948414675473985],\"scale\":[1,0.9999998807907104,1.0000001192092896],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightHandPinky1\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[0.00002872943878173828,21.595632553100586,-0.00007227726746350527],\"rotation\":[-0.03594404953576204,-0.11106320078688983,0.057498438524984305],\"scale\":[1,0.9999998807907104,0.9999998211860657],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightHand\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[0.000001087784767150879,24.20273208618164,0.00000453670509159565],\"rotation\":[-0.017222520483285125,0.0004372127947453844,-0.025383869931034354],\"scale\":[1.0000001192092896,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightForeArm\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[-1.0617077350616455e-7,7.189723968505859,-0.00000911974348127842],\"rotation\":[-0.30029461562456594,0.001575448651652434,-0.005087904443234942],\"scale\":[1.0000001192092896,1,0.9999999403953552],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightArm\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[-3.4146037101745605,7.343235015869141,0.004668939858675003],\"rotation\":[1.5712458261360864,0.3178650945671488,1.569353878454194],\"scale\":[0.9999998807907104,0.9999998211860657,0.9999999403953552],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightShoulder\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[0,7.527734279632568,-4.842877388000488e-8],\"rotation\":[-2.7939677238464362e-8,0,0],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:Spine2\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[0,6.586789131164551,-2.9802322387695312e-8],\"rotation\":[3.911554813385011e-8,0,0],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:Spine1\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[0,5.645729064941406,-0.03192954882979393],\"rotation\":[-0.0056554308344763165,0,0],\"scale\":[1,0.9999999403953552,0.9999999403953552],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:Spine\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}},{\"id\":\"f69a697c-1757-47db-b884-9abb03841761\",\"name\":\"mixamorigLeftUpLeg\",\"originalName\":\"mixamorigLeftUpLeg\",\"type\":\"Bone\",\"children\":[{\"id\":\"f3f96c23-4801-46e6-af4c-d0bddb2f9bb6\",\"name\":\"mixamorigLeftLeg\",\"originalName\":\"mixamorigLeftLeg\",\"type\":\"Bone\",\"children\":[{\"id\":\"c6323268-7e3b-4661-a35f-35fbb2f062c3\",\"name\":\"mixamorigLeftFoot\",\"originalName\":\"mixamorigLeftFoot\",\"type\":\"Bone\",\"children\":[{\"id\":\"e2f53bc9-fdb2-4d75-9213-73558da4c466\",\"name\":\"mixamorigLeftToeBase\",\"originalName\":\"mixamorigLeftToeBase\",\"type\":\"Bone\",\"children\":[{\"id\":\"4dbb8d9a-d7fa-4a95-8ba9-48e9fdb58083\",\"name\":\"mixamorigLeftToe_End\",\"originalName\":\"mixamorigLeftToe_End\",\"type\":\"Bone\",\"children\":[],\"visible\":true,\"position\":[0.0000016298145055770874,6.665019512176514,-8.940696716308594e-8],\"rotation\":[-4.291360221443783e-8,2.7797071301312386e-7,4.700275471303309e-9],\"scale\":[0.9999999403953552,0.9999998807907104,0.9999999403953552],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftToe_End\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[-0.000009896233677864075,16.36859130859375,-0.000002682209014892578],\"rotation\":[0.6703260803335359,-0.044052287207653744,0.034898318633469635],\"scale\":[0.9999999403953552,0.9999998211860657,0.9999999403953552],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftToeBase\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[0.00000324443681165576,46.2630615234375,-0.000006780959665775299],\"rotation\":[0.8633882952537824,0.03243393821088362,-0.037907918407224316],\"scale\":[1,1.0000001192092896,1.0000001192092896],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftFoot\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[-0.372251033782959,36.185176849365234,0.08834031224250793],\"rotation\":[0.006436818423128779,-0.0002738659678403266,-0.04220248024125109],\"scale\":[0.9999999403953552,1,0.9999998807907104],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftLeg\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[6.620180606842041,-8.816856384277344,-0.4471794664859772],\"rotation\":[-0.01559095139283119,-0.0000013402865701454674,-3.0758406926467265],\"scale\":[1.0000048875808716,1,1.000000238418579],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:LeftUpLeg\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}},{\"id\":\"3bd59ff4-0499-45f5-ae3f-51f6cae2a166\",\"name\":\"mixamorigRightUpLeg\",\"originalName\":\"mixamorigRightUpLeg\",\"type\":\"Bone\",\"children\":[{\"id\":\"ea4e45e5-c5e0-4fe0-9fb6-072a6aeb6c7f\",\"name\":\"mixamorigRightLeg\",\"originalName\":\"mixamorigRightLeg\",\"type\":\"Bone\",\"children\":[{\"id\":\"6b8f67e3-3eb5-4803-a962-31d570f8e8ee\",\"name\":\"mixamorigRightFoot\",\"originalName\":\"mixamorigRightFoot\",\"type\":\"Bone\",\"children\":[{\"id\":\"d807b7d7-080b-41bd-a4d9-1998e0625955\",\"name\":\"mixamorigRightToeBase\",\"originalName\":\"mixamorigRightToeBase\",\"type\":\"Bone\",\"children\":[{\"id\":\"331f8854-4e15-4ca6-bc54-7eaca0f351da\",\"name\":\"mixamorigRightToe_End\",\"originalName\":\"mixamorigRightToe_End\",\"type\":\"Bone\",\"children\":[],\"visible\":true,\"position\":[-3.650784492492676e-7,6.677565097808838,-2.9802322387695312e-8],\"rotation\":[-1.127918996283356e-7,1.70257567972579e-8,-2.8335489236658037e-7],\"scale\":[1,0.9999999403953552,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightToe_End\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[3.9301812648773193e-7,16.863407135009766,2.9802322387695312e-8],\"rotation\":[0.6464146726014387,0.042458013546649666,-0.03201629983350701],\"scale\":[0.9999997615814209,0.9999998807907104,0.9999998211860657],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightToeBase\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[0.000007595073839183897,46.25334930419922,-8.172064553946257e-7],\"rotation\":[0.9010530681863795,-0.029040725600234685,0.036653225731108414],\"scale\":[1.0000001192092896,1.0000001192092896,1.0000001192092896],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightFoot\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[0.37210848927497864,36.18390655517578,0.4961572587490082],\"rotation\":[0.0009104828771543675,0.000040097140795962365,0.042205304988782756],\"scale\":[0.9999998807907104,0.9999999403953552,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightLeg\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[-6.620173931121826,-8.816810607910156,-0.44718191027641296],\"rotation\":[-0.007135810354892427,9.046579616942883e-7,3.075834315463264],\"scale\":[1.000004768371582,0.9999999403953552,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:RightUpLeg\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[0,-0.5212410092353821,-102.62525939941406],\"rotation\":[-1.570796461153735,0,0],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"mixamorig:Hips\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[0,0,0],\"rotation\":[1.570796629741176,0,0],\"scale\":[0.009999999776482582,0.009999999776482582,0.009999999776482582],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"name\":\"Character\",\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}}],\"visible\":true,\"position\":[0,0,0],\"rotation\":[0,0,0],\"scale\":[1,1,1],\"castShadow\":false,\"receiveShadow\":false,\"userData\":{\"root\":true,\"isGltfRoot\":true,\"animations\":[\"SambaDance\",\"TPose\"],\"castShadow\":false,\"receiveShadow\":false,\"sceneObjectId\":\"0e87179a-f3fe-4dad-a45a-3d05447a1a8a\"}},\"activeAnimations\":[\"SambaDance\"]}],\"roamingNodes\":[],\"sceneConfig\":{\"backgroundType\":\"color\",\"backgroundValue\":\"#111111\",\"environmentType\":\"preset\",\"environmentValue\":\"city\",\"exposure\":1,\"shadows\":false,\"contactShadows\":false,\"gridVisible\":true,\"sunPosition\":[100,20,100],\"postProcessing\":{\"enabled\":false,\"multisampling\":8,\"bloom\":{\"enabled\":false,\"intensity\":1,\"radius\":0.4,\"threshold\":0.9},\"ssao\":{\"enabled\":false,\"intensity\":1,\"radius\":0.1,\"samples\":16},\"vignette\":{\"enabled\":false,\"offset\":0.3,\"darkness\":0.5},\"brightnessContrast\":{\"enabled\":false,\"brightness\":0,\"contrast\":0},\"hueSaturation\":{\"enabled\":false,\"hue\":0,\"saturation\":0}},\"snapTranslation\":0,\"snapRotation\":0,\"cameraPosition\":[-13.77698237494305,5.882115150495552,8.694566003937126],\"cameraRotation\":[-0.5947984704646616,-0.9196911066730268,-0.49367651764045134],\"cameraTarget\":[0,0,0],\"cameraFov\":45,\"cameraNear\":0.1,\"cameraFar\":1000}}', NULL, '2026-01-21 15:09:02', '2026-01-21 15:10:31', 0);
 
+-- ----------------------------
+-- Table structure for project_scene_chunk
+-- ----------------------------
+DROP TABLE IF EXISTS `project_scene_chunk`;
+CREATE TABLE `project_scene_chunk`  (
+  `project_id` bigint NOT NULL COMMENT '项目ID',
+  `seq` int NOT NULL COMMENT '分块序号，从 0 开始',
+  `content` mediumtext CHARACTER SET utf8mb4 COLLATE utf8mb4_0900_ai_ci NOT NULL COMMENT '分块内容',
+  PRIMARY KEY (`project_id`, `seq`) USING BTREE
+) ENGINE = InnoDB CHARACTER SET = utf8mb4 COLLATE = utf8mb4_0900_ai_ci COMMENT = '场景数据分块表' ROW_FORMAT = Dynamic;
+
+-- ----------------------------
+-- Records of project_scene_chunk (migrated from project.scene_data)
+-- ----------------------------
+INSERT INTO `project_scene_chunk` (`project_id`, `seq`, `content`)
+WITH RECURSIVE `chunk_seq` (`n`) AS (
+  SELECT 0 UNION ALL SELECT `n` + 1 FROM `chunk_seq` WHERE `n` < 511
+)
+SELECT p.`id`, s.`n`, SUBSTRING(p.`scene`, s.`n` * 65536 + 1, 65536)
+FROM (
+  -- 旧接口不校验 sceneData，非 JSON 内容按旧接口的返回形式转为 JSON 字符串
+  SELECT `id`, IF(JSON_VALID(`scene_data`), `scene_data`, JSON_QUOTE(`scene_data`)) AS `scene`
+  FROM `project`
+  WHERE `scene_data` IS NOT NULL AND `scene_data` <> ''
+) p JOIN `chunk_seq` s ON s.`n` * 65536 < CHAR_LENGTH(p.`scene`);
+UPDATE `project` SET `scene_data` = NULL WHERE `scene_data` IS NOT NULL;
+
 SET FOREIGN_KEY_CHECKS = 1;
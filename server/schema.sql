@@ -10,12 +10,35 @@ CREATE TABLE IF NOT EXISTS `project` (
     `thumbnail` VARCHAR(255) COMMENT '缩略图地址',
     `status` VARCHAR(20) DEFAULT 'draft' COMMENT '状态: draft, published',
     `tags` VARCHAR(255) COMMENT '标签',
+    `scene_data` MEDIUMTEXT COMMENT '场景json数据(旧版本，已迁移至 project_scene_chunk)',
     `create_time` DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
     `update_time` DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
     `deleted` TINYINT(1) DEFAULT 0 COMMENT '是否删除',
     PRIMARY KEY (`id`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='项目表';
 
+-- 场景数据分块表：场景 JSON 按 65536 字符切分存储，读写时逐块流式处理
+CREATE TABLE IF NOT EXISTS `project_scene_chunk` (
+    `project_id` BIGINT NOT NULL COMMENT '项目ID',
+    `seq` INT NOT NULL COMMENT '分块序号，从 0 开始',
+    `content` MEDIUMTEXT NOT NULL COMMENT '分块内容',
+    PRIMARY KEY (`project_id`, `seq`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='场景数据分块表';
+
+-- 将旧版本存于 project.scene_data 的场景迁移为分块存储
+INSERT IGNORE INTO `project_scene_chunk` (`project_id`, `seq`, `content`)
+WITH RECURSIVE `chunk_seq` (`n`) AS (
+    SELECT 0 UNION ALL SELECT `n` + 1 FROM `chunk_seq` WHERE `n` < 511
+)
+SELECT p.`id`, s.`n`, SUBSTRING(p.`scene`, s.`n` * 65536 + 1, 65536)
+FROM (
+    -- 旧接口不校验 sceneData，非 JSON 内容按旧接口的返回形式转为 JSON 字符串
+    SELECT `id`, IF(JSON_VALID(`scene_data`), `scene_data`, JSON_QUOTE(`scene_data`)) AS `scene`
+    FROM `project`
+    WHERE `scene_data` IS NOT NULL AND `scene_data` <> ''
+) p JOIN `chunk_seq` s ON s.`n` * 65536 < CHAR_LENGTH(p.`scene`);
+UPDATE `project` SET `scene_data` = NULL WHERE `scene_data` IS NOT NULL;
+
 -- 资产表 (素材)
 CREATE TABLE IF NOT EXISTS `asset` (
     `id` BIGINT AUTO_INCREMENT COMMENT '主键ID',
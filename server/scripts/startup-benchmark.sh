@@ -0,0 +1,51 @@
+#!/usr/bin/env bash
+# 对比常规构建与 fast-startup 构建的启动耗时（进程启动到首个请求成功返回）
+# 需要本地 MySQL 可用（同 application.yml 配置）
+# 用法: scripts/startup-benchmark.sh    可选环境变量: RUNS（每种模式运行次数，默认 3）、PORT（默认 9010）
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+RUNS=${RUNS:-3}
+PORT=${PORT:-9010}
+URL="http://localhost:${PORT}/api/label-templates"
+WORK=$(mktemp -d)
+
+measure() {
+    local label=$1
+    shift
+    local total=0
+    for i in $(seq "$RUNS"); do
+        local start
+        start=$(date +%s%N)
+        "$@" --server.port="$PORT" > "$WORK/$label-$i.log" 2>&1 &
+        local pid=$!
+        until curl -sf -o /dev/null "$URL"; do
+            if ! kill -0 "$pid" 2>/dev/null; then
+                echo "$label 启动失败，日志: $WORK/$label-$i.log"
+                exit 1
+            fi
+            sleep 0.02
+        done
+        local elapsed=$(( ($(date +%s%N) - start) / 1000000 ))
+        kill "$pid"
+        wait "$pid" 2>/dev/null || true
+        echo "$label #$i: ${elapsed} ms"
+        total=$((total + elapsed))
+    done
+    echo "$label 平均: $((total / RUNS)) ms"
+}
+
+echo "构建常规版本..."
+mvn -B -q -DskipTests clean package
+cp target/omni3d-server-*.jar "$WORK/regular.jar"
+
+echo "构建 fast-startup 版本..."
+mvn -B -q -DskipTests -Pfast-startup clean package
+FAST_JAR=$(ls target/omni3d-server-*.jar | grep -v -- '-exec.jar$')
+FAST_JSA="${FAST_JAR%.jar}.jsa"
+
+measure regular java -jar "$WORK/regular.jar"
+measure fast java -XX:SharedArchiveFile="$FAST_JSA" -Dspring.aot.enabled=true \
+    -Dspring.profiles.active=fast -jar "$FAST_JAR"
+
+echo "运行日志: $WORK"
@@ -0,0 +1,74 @@
+package com.omni3d.server.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * 读取 loadtest-baseline.properties，并检查场景结果与服务进程指标是否超出阈值
+ */
+public class LoadBaseline {
+
+    private final Properties properties = new Properties();
+
+    public static LoadBaseline load(String resource) throws IOException {
+        LoadBaseline baseline = new LoadBaseline();
+        try (InputStream in = LoadBaseline.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("找不到压测基线文件: " + resource);
+            }
+            baseline.properties.load(new InputStreamReader(in, StandardCharsets.UTF_8));
+        }
+        return baseline;
+    }
+
+    /**
+     * @return 违反基线的描述，未配置的指标不检查
+     */
+    public List<String> check(ScenarioResult result) {
+        List<String> violations = new ArrayList<>();
+        String name = result.getName();
+        atLeast(violations, name, "minThroughput", result.throughput());
+        atMost(violations, name, "maxP50Ms", result.percentileMs(0.50));
+        atMost(violations, name, "maxP99Ms", result.percentileMs(0.99));
+        atMost(violations, name, "maxP999Ms", result.percentileMs(0.999));
+        atMost(violations, name, "maxErrorRate", result.errorRate());
+        return violations;
+    }
+
+    /**
+     * 检查服务进程的堆与 GC 指标，键前缀为 server
+     */
+    public List<String> check(ServerMetrics metrics) {
+        List<String> violations = new ArrayList<>();
+        atMost(violations, "server", "maxGcCount", metrics.getGcCount());
+        atMost(violations, "server", "maxGcTimeMs", metrics.getGcTimeMs());
+        atMost(violations, "server", "maxGcPauseMs", metrics.getMaxGcPauseMs());
+        atMost(violations, "server", "maxPeakHeapMb", metrics.peakHeapMb());
+        atMost(violations, "server", "maxLiveHeapMb", metrics.liveHeapMb());
+        return violations;
+    }
+
+    private void atLeast(List<String> violations, String scenario, String key, double actual) {
+        Double limit = limit(scenario, key);
+        if (limit != null && actual < limit) {
+            violations.add(String.format("%s.%s: 实际 %.2f < 基线 %.2f", scenario, key, actual, limit));
+        }
+    }
+
+    private void atMost(List<String> violations, String scenario, String key, double actual) {
+        Double limit = limit(scenario, key);
+        if (limit != null && actual > limit) {
+            violations.add(String.format("%s.%s: 实际 %.2f > 基线 %.2f", scenario, key, actual, limit));
+        }
+    }
+
+    private Double limit(String scenario, String key) {
+        String value = properties.getProperty(scenario + "." + key);
+        return value == null ? null : Double.valueOf(value.trim());
+    }
+}
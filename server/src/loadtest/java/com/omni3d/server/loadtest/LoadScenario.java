@@ -0,0 +1,64 @@
+package com.omni3d.server.loadtest;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.net.http.HttpRequest;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * 一种流量：按泊松过程以 ratePerSecond 到达的请求，或一组按固定间隔轮询的请求（pollers）。
+ * 所有场景在同一时间窗口内并发回放（开环模型，到达速率不受响应快慢影响）。
+ */
+@Data
+@Builder
+public class LoadScenario {
+    private String name;
+
+    /**
+     * 泊松到达速率（请求/秒），pollers 不为空时忽略
+     */
+    private double ratePerSecond;
+
+    private Function<Random, HttpRequest> requestFactory;
+
+    /**
+     * 固定间隔轮询的请求源，例如预览端按数据源 refreshInterval 定时拉取
+     */
+    private List<Poller> pollers;
+
+    /**
+     * 每次到达同时发出的请求数，用于模拟并发上传等突发流量，默认为 1
+     */
+    private int burst;
+
+    /**
+     * 本场景的请求完成后紧接着发出的下一步，例如打开项目时先取标签模板再加载场景；
+     * 下一步随本场景到达，自身不单独调度，其 ratePerSecond 仅用于报告
+     */
+    private LoadScenario next;
+
+    /**
+     * 响应是否为 Result 包装，是则要求 code 为 200
+     */
+    private boolean envelope;
+
+    /**
+     * 名义到达速率（请求/秒）
+     */
+    public double offeredRate() {
+        if (pollers == null || pollers.isEmpty()) {
+            return ratePerSecond * Math.max(burst, 1);
+        }
+        return pollers.stream().mapToDouble(poller -> 1000.0 / poller.getIntervalMillis()).sum();
+    }
+
+    @Data
+    public static class Poller {
+        private final long intervalMillis;
+
+        private final HttpRequest request;
+    }
+}
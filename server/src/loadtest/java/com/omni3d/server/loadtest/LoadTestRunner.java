@@ -0,0 +1,481 @@
+package com.omni3d.server.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 端到端压测入口：以独立进程启动服务（loadtest 配置，内嵌 H2），预置数据后将各场景按权重混合并发回放，
+ * 输出每个场景的吞吐与分位延迟、服务进程的堆与 GC 指标，并与 loadtest-baseline.properties 比较，
+ * 超出阈值时以状态码 1 退出。
+ * <p>
+ * 流量为开环模型：请求按计划时刻发出，不等待前一个响应，延迟从计划时刻算起，服务变慢时排队时间会体现在分位延迟中。
+ * 画廊浏览、打开项目、场景保存与素材上传按泊松过程到达：打开项目与前端 useInitialize 一致，先取标签模板再加载场景；
+ * 突发上传每次到达同时发出多个上传请求。数据源轮询模拟 loadtest.viewers 个预览端，
+ * 每个预览端按所绑定数据源的 refreshInterval（秒）定时拉取 GET /api/data-sources/{id}，与前端 DataBindingRunner 一致。
+ * <p>
+ * 运行方式：{@code mvn -Pload-test verify}，可通过 {@code -Dloadtest.durationSeconds}、{@code -Dloadtest.warmupSeconds}
+ * 调整测量与预热时长，{@code -Dloadtest.rate.<场景名>} 与 {@code -Dloadtest.viewers} 调整流量，调整流量后需重新记录基线。
+ */
+public class LoadTestRunner {
+
+    private static final int PROJECT_COUNT = 60;
+    private static final int SCENE_PROJECT_COUNT = 20;
+    private static final int TEMPLATE_COUNT = 10;
+    private static final int ASSET_COUNT = 30;
+    private static final int MB = 1024 * 1024;
+    /**
+     * 预置数据源的刷新间隔（秒），按顺序循环分配
+     */
+    private static final int[] REFRESH_INTERVALS = {1, 2, 5, 5, 10};
+    private static final int DATA_SOURCE_COUNT = 20;
+    /**
+     * 每个预览端绑定的数据源数量
+     */
+    private static final int SOURCES_PER_VIEWER = 3;
+    /**
+     * 同时未完成的请求上限，超出时直接计为错误，避免服务停顿时客户端无限堆积
+     */
+    private static final int MAX_IN_FLIGHT = 512;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final byte[] SUCCESS_PREFIX = "{\"code\":200,".getBytes(StandardCharsets.UTF_8);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newFixedThreadPool(4))
+            .build();
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+    private final Semaphore inFlight = new Semaphore(MAX_IN_FLIGHT);
+    private final int durationSeconds = Integer.getInteger("loadtest.durationSeconds", 120);
+    private final int warmupSeconds = Integer.getInteger("loadtest.warmupSeconds", 15);
+    private final int viewers = Integer.getInteger("loadtest.viewers", 40);
+    private final Map<LoadScenario, LatencyRecorder> recorders = new LinkedHashMap<>();
+    private String baseUrl;
+
+    public static void main(String[] args) throws Exception {
+        // H2 文件库放在工作目录下，每次运行重建
+        FileSystemUtils.deleteRecursively(Paths.get("loadtest-db"));
+        int exitCode;
+        try (ServerProcess server = ServerProcess.start(System.getProperty("loadtest.heap", "512m"))) {
+            exitCode = new LoadTestRunner().run(server);
+        }
+        System.exit(exitCode);
+    }
+
+    private int run(ServerProcess server) throws Exception {
+        this.baseUrl = server.baseUrl();
+        seed();
+
+        List<LoadScenario> scenarios = scenarios();
+        System.out.printf("混合回放 %d 个场景（预热 %d 秒，测量 %d 秒）:%n",
+                scenarios.size(), warmupSeconds, durationSeconds);
+        scenarios.forEach(s -> System.out.printf("  %-20s %8.1f req/s%n", s.getName(), s.offeredRate()));
+
+        long start = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100);
+        long measureStart = start + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long end = measureStart + TimeUnit.SECONDS.toNanos(durationSeconds);
+        long seed = 0;
+        for (LoadScenario scenario : scenarios) {
+            recorders.put(scenario, new LatencyRecorder(measureStart, end));
+        }
+        for (LoadScenario scenario : scenarios) {
+            if (scenarios.stream().anyMatch(other -> other.getNext() == scenario)) {
+                // 作为其他场景的下一步发出
+                continue;
+            }
+            if (scenario.getPollers() != null) {
+                Random random = new Random(seed++);
+                for (LoadScenario.Poller poller : scenario.getPollers()) {
+                    // 各预览端打开页面的时刻在一个刷新周期内均匀分布
+                    long first = start + (long) (random.nextDouble() * TimeUnit.MILLISECONDS.toNanos(poller.getIntervalMillis()));
+                    schedulePoll(scenario, poller, first, end);
+                }
+            } else {
+                scheduleArrival(scenario, new Random(seed++), start, end);
+            }
+        }
+
+        sleepUntil(measureStart);
+        server.beginMeasurement();
+        sleepUntil(end);
+        ServerMetrics metrics = server.endMeasurement();
+        scheduler.shutdown();
+        scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        // 等待测量窗口内发出的请求全部完成，请求超时（REQUEST_TIMEOUT）会以失败结束并计为错误
+        boolean drained = inFlight.tryAcquire(MAX_IN_FLIGHT, REQUEST_TIMEOUT.toSeconds() + 5, TimeUnit.SECONDS);
+        if (!drained) {
+            System.out.println("部分请求在超时后仍未完成");
+        }
+
+        List<ScenarioResult> results = new ArrayList<>();
+        recorders.forEach((scenario, recorder) -> results.add(recorder.result(scenario)));
+        printReport(results, metrics);
+
+        LoadBaseline baseline = LoadBaseline.load("loadtest-baseline.properties");
+        List<String> violations = new ArrayList<>();
+        for (ScenarioResult result : results) {
+            violations.addAll(baseline.check(result));
+        }
+        violations.addAll(baseline.check(metrics));
+        if (violations.isEmpty()) {
+            System.out.println("所有指标均满足基线");
+            return 0;
+        }
+        System.out.println("以下指标超出基线:");
+        violations.forEach(v -> System.out.println("  " + v));
+        return 1;
+    }
+
+    /**
+     * 预置项目、场景、素材、数据源与标签模板
+     */
+    private void seed() throws Exception {
+        for (int i = 1; i <= TEMPLATE_COUNT; i++) {
+            postJson("/api/label-templates", "{\"name\":\"模板" + i + "\",\"html\":\"<div class='label'>{{value}}</div>\","
+                    + "\"css\":\".label{color:#0ff}\",\"fields\":\"value\"}");
+        }
+        for (int i = 1; i <= DATA_SOURCE_COUNT; i++) {
+            int refreshInterval = REFRESH_INTERVALS[(i - 1) % REFRESH_INTERVALS.length];
+            postJson("/api/data-sources", "{\"name\":\"数据源" + i + "\",\"url\":\"http://sensor.local/api/" + i
+                    + "\",\"method\":\"GET\",\"headers\":\"{}\",\"params\":\"{}\","
+                    + "\"config\":\"[{\\\"key\\\":\\\"temperature\\\",\\\"value\\\":21.5},"
+                    + "{\\\"key\\\":\\\"humidity\\\",\\\"value\\\":40}]\",\"refreshInterval\":" + refreshInterval + "}");
+        }
+        for (int i = 1; i <= PROJECT_COUNT; i++) {
+            postJson("/api/projects", "{\"name\":\"项目" + i + "\",\"description\":\"压测项目\","
+                    + "\"status\":\"draft\",\"tags\":\"工厂,园区\"}");
+        }
+        byte[] scene = TrafficFixtures.sceneJson(2 * MB, 1);
+        for (long id = 1; id <= SCENE_PROJECT_COUNT; id++) {
+            HttpRequest request = request("/api/projects/" + id + "/scene")
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofByteArray(scene))
+                    .build();
+            if (!succeeded(client.send(request, HttpResponse.BodyHandlers.ofByteArray()), true)) {
+                throw new IllegalStateException("预置场景失败: " + id);
+            }
+        }
+        byte[] thumbnail = TrafficFixtures.glb(16 * 1024, 2);
+        for (int i = 1; i <= ASSET_COUNT; i++) {
+            byte[] body = TrafficFixtures.uploadBody("seed-" + i, "model", TrafficFixtures.glb(64 * 1024, i), thumbnail);
+            if (!succeeded(client.send(multipart(body), HttpResponse.BodyHandlers.ofByteArray()), true)) {
+                throw new IllegalStateException("预置素材失败: seed-" + i);
+            }
+        }
+    }
+
+    private List<LoadScenario> scenarios() throws Exception {
+        // 画廊浏览：项目与素材分页，带名称/分类筛选
+        LoadScenario gallery = LoadScenario.builder()
+                .name("gallery-browse")
+                .ratePerSecond(rate("gallery-browse", 20))
+                .envelope(true)
+                .requestFactory(random -> {
+                    if (random.nextInt(10) < 7) {
+                        String query = "/api/projects?current=" + (random.nextInt(5) + 1) + "&size=12";
+                        return get(random.nextInt(4) == 0 ? query + "&name=" + random.nextInt(10) : query);
+                    }
+                    return get("/api/assets?current=" + (random.nextInt(3) + 1) + "&size=12&categoryId="
+                            + (random.nextBoolean() ? "model" : "all"));
+                })
+                .build();
+
+        // 编辑器/预览端打开项目：先取标签模板，完成后加载 2MB 场景，约一半客户端接受 gzip
+        double openRate = rate("project-open", 1);
+        LoadScenario sceneLoad = LoadScenario.builder()
+                .name("scene-load")
+                .ratePerSecond(openRate)
+                .envelope(true)
+                .requestFactory(random -> {
+                    HttpRequest.Builder builder = request(
+                            "/api/projects/" + (random.nextInt(SCENE_PROJECT_COUNT) + 1) + "/scene");
+                    if (random.nextBoolean()) {
+                        builder.header("Accept-Encoding", "gzip");
+                    }
+                    return builder.GET().build();
+                })
+                .build();
+
+        LoadScenario labelTemplates = LoadScenario.builder()
+                .name("label-templates")
+                .ratePerSecond(openRate)
+                .envelope(true)
+                .requestFactory(random -> get("/api/label-templates"))
+                .next(sceneLoad)
+                .build();
+
+        // 编辑器保存 2~8MB 场景
+        byte[][] scenes = {
+                TrafficFixtures.sceneJson(2 * MB, 11),
+                TrafficFixtures.sceneJson(4 * MB, 12),
+                TrafficFixtures.sceneJson(8 * MB, 13)
+        };
+        LoadScenario sceneSave = LoadScenario.builder()
+                .name("scene-save")
+                .ratePerSecond(rate("scene-save", 0.3))
+                .envelope(true)
+                .requestFactory(random -> request(
+                        "/api/projects/" + (random.nextInt(SCENE_PROJECT_COUNT) + 1) + "/scene")
+                        .header("Content-Type", "application/json")
+                        .PUT(HttpRequest.BodyPublishers.ofByteArray(scenes[random.nextInt(scenes.length)]))
+                        .build())
+                .build();
+
+        // 上传 1~5MB GLB 模型及缩略图
+        byte[] thumbnail = TrafficFixtures.glb(32 * 1024, 20);
+        byte[][] uploads = {
+                TrafficFixtures.uploadBody("upload-small", "model", TrafficFixtures.glb(MB, 21), thumbnail),
+                TrafficFixtures.uploadBody("upload-medium", "model", TrafficFixtures.glb(3 * MB, 22), thumbnail),
+                TrafficFixtures.uploadBody("upload-large", "model", TrafficFixtures.glb(5 * MB, 23), thumbnail)
+        };
+        LoadScenario assetUpload = LoadScenario.builder()
+                .name("asset-upload")
+                .ratePerSecond(rate("asset-upload", 0.2))
+                .envelope(true)
+                .requestFactory(random -> multipart(uploads[random.nextInt(uploads.length)]))
+                .build();
+
+        // 素材库批量导入：每次同时上传多个模型
+        LoadScenario assetUploadBurst = LoadScenario.builder()
+                .name("asset-upload-burst")
+                .ratePerSecond(rate("asset-upload-burst", 0.05))
+                .burst(Integer.getInteger("loadtest.uploadBurst", 6))
+                .envelope(true)
+                .requestFactory(random -> multipart(uploads[random.nextInt(uploads.length)]))
+                .build();
+
+        // 预览端按各数据源的 refreshInterval 定时轮询
+        Map<Integer, Integer> intervals = refreshIntervals();
+        Random random = new Random(42);
+        List<LoadScenario.Poller> pollers = new ArrayList<>();
+        for (int viewer = 0; viewer < viewers; viewer++) {
+            int first = random.nextInt(DATA_SOURCE_COUNT);
+            for (int i = 0; i < SOURCES_PER_VIEWER; i++) {
+                int id = (first + i) % DATA_SOURCE_COUNT + 1;
+                pollers.add(new LoadScenario.Poller(intervals.get(id) * 1000L, get("/api/data-sources/" + id)));
+            }
+        }
+        LoadScenario polling = LoadScenario.builder()
+                .name("datasource-polling")
+                .pollers(pollers)
+                .envelope(true)
+                .build();
+
+        return List.of(gallery, labelTemplates, sceneLoad, sceneSave, assetUpload, assetUploadBurst, polling);
+    }
+
+    /**
+     * 读取服务端保存的刷新间隔，未设置时按前端默认值 5 秒
+     */
+    private Map<Integer, Integer> refreshIntervals() throws Exception {
+        Map<Integer, Integer> intervals = new LinkedHashMap<>();
+        for (int id = 1; id <= DATA_SOURCE_COUNT; id++) {
+            HttpResponse<byte[]> response = client.send(get("/api/data-sources/" + id),
+                    HttpResponse.BodyHandlers.ofByteArray());
+            JsonNode data = objectMapper.readTree(response.body()).path("data");
+            if (data.isMissingNode() || data.isNull()) {
+                throw new IllegalStateException("数据源不存在: " + id);
+            }
+            int interval = data.path("refreshInterval").asInt(0);
+            intervals.put(id, interval > 0 ? interval : 5);
+        }
+        return intervals;
+    }
+
+    private double rate(String scenario, double defaultRate) {
+        String value = System.getProperty("loadtest.rate." + scenario);
+        return value == null ? defaultRate : Double.parseDouble(value);
+    }
+
+    /**
+     * 泊松到达：相邻请求的间隔服从指数分布，下一个请求的计划时刻与本次响应无关
+     */
+    private void scheduleArrival(LoadScenario scenario, Random random, long intended, long end) {
+        if (intended >= end || scenario.getRatePerSecond() <= 0) {
+            return;
+        }
+        scheduler.schedule(() -> {
+            for (int i = 0; i < Math.max(scenario.getBurst(), 1); i++) {
+                dispatch(scenario, scenario.getRequestFactory().apply(random), followUp(scenario, random), intended);
+            }
+            long gap = (long) (-Math.log(1 - random.nextDouble()) / scenario.getRatePerSecond() * 1_000_000_000L);
+            scheduleArrival(scenario, random, intended + gap, end);
+        }, intended - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 固定间隔轮询，对应前端的 setInterval
+     */
+    private void schedulePoll(LoadScenario scenario, LoadScenario.Poller poller, long intended, long end) {
+        if (intended >= end) {
+            return;
+        }
+        scheduler.schedule(() -> {
+            dispatch(scenario, poller.getRequest(), null, intended);
+            schedulePoll(scenario, poller,
+                    intended + TimeUnit.MILLISECONDS.toNanos(poller.getIntervalMillis()), end);
+        }, intended - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 发出请求，完成后记录耗时；followUp 不为空时随后发出下一步，下一步的耗时从其发出时刻算起
+     */
+    private void dispatch(LoadScenario scenario, HttpRequest request, FollowUp followUp, long intended) {
+        LatencyRecorder recorder = recorders.get(scenario);
+        if (!inFlight.tryAcquire()) {
+            recorder.record(intended, System.nanoTime() - intended, false);
+            if (followUp != null) {
+                dispatch(followUp.scenario(), followUp.request(), followUp.next(), System.nanoTime());
+            }
+            return;
+        }
+        client.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray()).whenComplete((response, error) -> {
+            long latency = System.nanoTime() - intended;
+            boolean ok = error == null && succeeded(response, scenario.isEnvelope());
+            recorder.record(intended, latency, ok);
+            // 与前端一致，上一步失败时仍继续下一步；先发出下一步再释放许可，结束时的等待不会漏掉它
+            if (followUp != null) {
+                dispatch(followUp.scenario(), followUp.request(), followUp.next(), System.nanoTime());
+            }
+            inFlight.release();
+        });
+    }
+
+    /**
+     * 在调度线程上预先生成后续步骤的请求，保证同一随机种子下请求序列一致
+     */
+    private FollowUp followUp(LoadScenario scenario, Random random) {
+        LoadScenario next = scenario.getNext();
+        if (next == null) {
+            return null;
+        }
+        return new FollowUp(next, next.getRequestFactory().apply(random), followUp(next, random));
+    }
+
+    private record FollowUp(LoadScenario scenario, HttpRequest request, FollowUp next) {
+    }
+
+    /**
+     * 状态码为 200，且 Result 包装的响应以 code 200 开头
+     */
+    private boolean succeeded(HttpResponse<byte[]> response, boolean envelope) {
+        if (response.statusCode() != 200) {
+            return false;
+        }
+        if (!envelope) {
+            return true;
+        }
+        byte[] head = new byte[SUCCESS_PREFIX.length];
+        try (InputStream in = response.headers().firstValue("Content-Encoding").filter("gzip"::equalsIgnoreCase).isPresent()
+                ? new GZIPInputStream(new ByteArrayInputStream(response.body()))
+                : new ByteArrayInputStream(response.body())) {
+            return in.readNBytes(head, 0, head.length) == head.length && Arrays.equals(head, SUCCESS_PREFIX);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void postJson(String path, String json) throws IOException, InterruptedException {
+        HttpRequest request = request(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json, StandardCharsets.UTF_8))
+                .build();
+        if (!succeeded(client.send(request, HttpResponse.BodyHandlers.ofByteArray()), true)) {
+            throw new IllegalStateException("预置数据失败: " + path);
+        }
+    }
+
+    private HttpRequest get(String path) {
+        return request(path).GET().build();
+    }
+
+    private HttpRequest multipart(byte[] body) {
+        return request("/api/assets/upload")
+                .header("Content-Type", "multipart/form-data; boundary=" + TrafficFixtures.BOUNDARY)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT);
+    }
+
+    private static void sleepUntil(long nanoTime) throws InterruptedException {
+        long remaining = nanoTime - System.nanoTime();
+        if (remaining > 0) {
+            TimeUnit.NANOSECONDS.sleep(remaining);
+        }
+    }
+
+    private void printReport(List<ScenarioResult> results, ServerMetrics metrics) {
+        System.out.println();
+        System.out.printf("%-20s %9s %9s %7s %10s %9s %9s %9s%n",
+                "scenario", "offered", "requests", "errors", "req/s", "p50(ms)", "p99(ms)", "p999(ms)");
+        for (ScenarioResult r : results) {
+            System.out.printf("%-20s %9.1f %9d %7d %10.1f %9.2f %9.2f %9.2f%n",
+                    r.getName(), r.getOfferedRate(), r.getRequests(), r.getErrors(), r.throughput(),
+                    r.percentileMs(0.50), r.percentileMs(0.99), r.percentileMs(0.999));
+        }
+        System.out.printf("%nserver: gc %d 次，累计 %d ms，最长 %d ms，堆峰值 %.1f MB，GC 后堆占用最高 %.1f MB%n%n",
+                metrics.getGcCount(), metrics.getGcTimeMs(), metrics.getMaxGcPauseMs(),
+                metrics.peakHeapMb(), metrics.liveHeapMb());
+    }
+
+    /**
+     * 收集一个场景在测量窗口内计划发出的请求，窗口外（预热阶段）的请求只施加负载不计入结果
+     */
+    private static final class LatencyRecorder {
+        private final long windowStart;
+        private final long windowEnd;
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        LatencyRecorder(long windowStart, long windowEnd) {
+            this.windowStart = windowStart;
+            this.windowEnd = windowEnd;
+        }
+
+        synchronized void record(long intended, long latency, boolean ok) {
+            if (intended < windowStart || intended >= windowEnd) {
+                return;
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latency;
+            if (!ok) {
+                errors++;
+            }
+        }
+
+        synchronized ScenarioResult result(LoadScenario scenario) {
+            return new ScenarioResult(scenario.getName(), scenario.offeredRate(), errors,
+                    windowEnd - windowStart, Arrays.copyOf(latencies, count));
+        }
+    }
+}
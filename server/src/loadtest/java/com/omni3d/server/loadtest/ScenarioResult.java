@@ -0,0 +1,58 @@
+package com.omni3d.server.loadtest;
+
+import lombok.Data;
+
+import java.util.Arrays;
+
+/**
+ * 单个场景在测量窗口内的统计结果，延迟从请求的计划发送时刻算起（包含排队等待）
+ */
+@Data
+public class ScenarioResult {
+    private final String name;
+
+    private final double offeredRate;
+
+    private final long requests;
+
+    private final long errors;
+
+    private final long elapsedNanos;
+
+    /**
+     * 已排序的请求耗时（纳秒）
+     */
+    private final long[] latencies;
+
+    public ScenarioResult(String name, double offeredRate, long errors, long elapsedNanos, long[] latencies) {
+        Arrays.sort(latencies);
+        this.name = name;
+        this.offeredRate = offeredRate;
+        this.requests = latencies.length;
+        this.errors = errors;
+        this.elapsedNanos = elapsedNanos;
+        this.latencies = latencies;
+    }
+
+    /**
+     * 成功请求的吞吐（请求/秒）
+     */
+    public double throughput() {
+        return elapsedNanos == 0 ? 0 : (requests - errors) * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    public double errorRate() {
+        return requests == 0 ? 1 : (double) errors / requests;
+    }
+
+    /**
+     * 按 nearest-rank 计算分位耗时（毫秒）
+     */
+    public double percentileMs(double percentile) {
+        if (latencies.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * latencies.length) - 1;
+        return latencies[Math.max(0, Math.min(index, latencies.length - 1))] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,261 @@
+package com.omni3d.server.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.omni3d.server.Omni3DApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * 场景读写的分配基准：在 1/10/50MB 场景下测量 GET/PUT /api/projects/{id}/scene 单个请求在
+ * Tomcat 工作线程上的分配字节数（com.sun.management.ThreadMXBean），以及请求期间老年代峰值的增长。
+ * <p>
+ * 流式实现中分配总量随场景大小线性增长（每个分块都是新对象），但每字节分配量应保持不变；
+ * 完整拼接场景字符串时大对象会直接进入老年代，因此老年代峰值增长用于衡量单请求的堆占用上限。
+ * 作为对照，同时测量旧接口 GET /api/projects/{id}（完整拼接 sceneData）在 1/10MB 下的数据。
+ * <p>
+ * 需要连接真实 MySQL（application.yml 中的配置），运行方式：
+ * {@code mvn -Pload-test test-compile exec:exec@scene-allocation}
+ */
+public class SceneAllocationBenchmark {
+
+    private static final long MB = 1024 * 1024;
+    private static final long[] SIZES = {MB, 10 * MB, 50 * MB};
+    private static final int REPEAT = 3;
+    private static final String PREFIX = "{\"code\":200,\"message\":\"success\",\"data\":";
+    /**
+     * 最大场景与最小场景之间允许的每字节分配量增幅
+     */
+    private static final double MAX_RATIO_GROWTH = 1.5;
+    /**
+     * 单个流式请求允许的老年代峰值增长
+     */
+    private static final long MAX_OLD_GEN_GROWTH = 16 * MB;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final MemoryPoolMXBean oldGen = ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> pool.getName().contains("Old Gen") || pool.getName().contains("Tenured"))
+            .findFirst()
+            .orElse(null);
+    private String baseUrl;
+
+    public static void main(String[] args) throws Exception {
+        List<String> arguments = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--logging.level.root=warn",
+                "--logging.level.com.omni3d.server=warn",
+                "--mybatis-plus.configuration.log-impl=org.apache.ibatis.logging.nologging.NoLoggingImpl"));
+        arguments.addAll(Arrays.asList(args));
+        int exitCode;
+        try (ConfigurableApplicationContext context =
+                     SpringApplication.run(Omni3DApplication.class, arguments.toArray(new String[0]))) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            exitCode = new SceneAllocationBenchmark().run("http://localhost:" + port);
+        }
+        System.exit(exitCode);
+    }
+
+    private int run(String baseUrl) throws Exception {
+        this.baseUrl = baseUrl;
+        long projectId = createProject();
+
+        List<String> failures = new ArrayList<>();
+        System.out.printf("%n%-8s %-10s %14s %12s %14s%n", "scene", "request", "alloc(MB)", "alloc/byte", "oldGen+(MB)");
+        double firstPutRatio = 0;
+        double firstGetRatio = 0;
+        for (long size : SIZES) {
+            Measurement put = measure(() -> putScene(projectId, size));
+            Measurement get = measure(() -> getScene(projectId, size));
+            print(size, "PUT scene", put);
+            print(size, "GET scene", get);
+            if (size <= 10 * MB) {
+                print(size, "GET legacy", measure(() -> getLegacy(projectId)));
+            }
+            if (size == SIZES[0]) {
+                firstPutRatio = put.perByte(size);
+                firstGetRatio = get.perByte(size);
+            } else {
+                checkRatio(failures, "PUT", size, put.perByte(size), firstPutRatio);
+                checkRatio(failures, "GET", size, get.perByte(size), firstGetRatio);
+            }
+            checkOldGen(failures, "PUT", size, put);
+            checkOldGen(failures, "GET", size, get);
+        }
+        deleteProject(projectId);
+
+        if (failures.isEmpty()) {
+            System.out.println("\n单请求分配量与场景大小成正比且每字节分配量稳定，老年代峰值不随场景大小增长");
+            return 0;
+        }
+        System.out.println("\n以下指标不满足要求:");
+        failures.forEach(f -> System.out.println("  " + f));
+        return 1;
+    }
+
+    /**
+     * 重复执行请求，取分配量的中位数与老年代峰值增长的最大值
+     */
+    private Measurement measure(Request request) throws Exception {
+        long[] allocated = new long[REPEAT];
+        long oldGrowth = 0;
+        for (int i = 0; i < REPEAT; i++) {
+            System.gc();
+            long oldBefore = 0;
+            if (oldGen != null) {
+                oldBefore = oldGen.getUsage().getUsed();
+                oldGen.resetPeakUsage();
+            }
+            Map<Long, Long> before = serverThreadAllocations();
+            request.execute();
+            Map<Long, Long> after = serverThreadAllocations();
+            for (Map.Entry<Long, Long> entry : after.entrySet()) {
+                allocated[i] += entry.getValue() - before.getOrDefault(entry.getKey(), 0L);
+            }
+            if (oldGen != null) {
+                oldGrowth = Math.max(oldGrowth, oldGen.getPeakUsage().getUsed() - oldBefore);
+            }
+        }
+        Arrays.sort(allocated);
+        return new Measurement(allocated[REPEAT / 2], oldGrowth);
+    }
+
+    /**
+     * Tomcat 工作线程（http-nio-*）上的累计分配字节数，排除压测客户端自身的分配
+     */
+    private Map<Long, Long> serverThreadAllocations() {
+        Map<Long, Long> result = new HashMap<>();
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().startsWith("http-nio-")) {
+                result.put(thread.getId(), threads.getThreadAllocatedBytes(thread.getId()));
+            }
+        }
+        return result;
+    }
+
+    private void putScene(long projectId, long size) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri("/api/projects/" + projectId + "/scene"))
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofInputStream(() -> new SceneInputStream(size, size)))
+                .build();
+        JsonNode body = objectMapper.readTree(client.send(request, HttpResponse.BodyHandlers.ofString()).body());
+        if (body.path("code").asInt() != 200) {
+            throw new IllegalStateException("保存场景失败: " + body);
+        }
+    }
+
+    /**
+     * 读取场景并与上传内容逐字节比对（CRC32），验证分块切分没有破坏多字节字符
+     */
+    private void getScene(long projectId, long size) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri("/api/projects/" + projectId + "/scene")).GET().build();
+        try (InputStream in = client.send(request, HttpResponse.BodyHandlers.ofInputStream()).body()) {
+            byte[] prefix = in.readNBytes(PREFIX.length());
+            if (!PREFIX.equals(new String(prefix, StandardCharsets.UTF_8))) {
+                throw new IllegalStateException("场景响应格式错误: " + new String(prefix, StandardCharsets.UTF_8));
+            }
+            // 最后一个字节是 Result 的右括号，不计入场景内容
+            CRC32 actual = new CRC32();
+            byte[] buffer = new byte[8192];
+            int held = -1;
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                if (held >= 0) {
+                    actual.update(held);
+                }
+                actual.update(buffer, 0, read - 1);
+                held = buffer[read - 1] & 0xFF;
+            }
+            if (actual.getValue() != expectedCrc(size)) {
+                throw new IllegalStateException("读取的场景与上传内容不一致");
+            }
+        }
+    }
+
+    private void getLegacy(long projectId) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri("/api/projects/" + projectId)).GET().build();
+        client.send(request, HttpResponse.BodyHandlers.discarding());
+    }
+
+    private long expectedCrc(long size) throws IOException {
+        CRC32 crc = new CRC32();
+        try (InputStream in = new SceneInputStream(size, size)) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                crc.update(buffer, 0, read);
+            }
+        }
+        return crc.getValue();
+    }
+
+    private long createProject() throws Exception {
+        String name = "scene-allocation-" + System.currentTimeMillis();
+        HttpRequest create = HttpRequest.newBuilder(uri("/api/projects"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"name\":\"" + name + "\",\"status\":\"draft\"}"))
+                .build();
+        client.send(create, HttpResponse.BodyHandlers.discarding());
+        HttpRequest list = HttpRequest.newBuilder(uri("/api/projects?size=1&name=" + name)).GET().build();
+        JsonNode body = objectMapper.readTree(client.send(list, HttpResponse.BodyHandlers.ofString()).body());
+        return body.path("data").path("records").path(0).path("id").asLong();
+    }
+
+    private void deleteProject(long projectId) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri("/api/projects/" + projectId)).DELETE().build();
+        client.send(request, HttpResponse.BodyHandlers.discarding());
+    }
+
+    private void checkRatio(List<String> failures, String method, long size, double ratio, double baseline) {
+        if (ratio > baseline * MAX_RATIO_GROWTH) {
+            failures.add(String.format("%s %dMB: 每字节分配 %.2f，超过 1MB 场景 %.2f 的 %.1f 倍",
+                    method, size / MB, ratio, baseline, MAX_RATIO_GROWTH));
+        }
+    }
+
+    private void checkOldGen(List<String> failures, String method, long size, Measurement measurement) {
+        if (measurement.oldGenGrowth > MAX_OLD_GEN_GROWTH) {
+            failures.add(String.format("%s %dMB: 老年代峰值增长 %.1fMB，超过 %dMB",
+                    method, size / MB, measurement.oldGenGrowth / (double) MB, MAX_OLD_GEN_GROWTH / MB));
+        }
+    }
+
+    private void print(long size, String label, Measurement measurement) {
+        System.out.printf("%-8s %-10s %14.1f %12.2f %14.1f%n", size / MB + "MB", label,
+                measurement.allocated / (double) MB, measurement.perByte(size),
+                measurement.oldGenGrowth / (double) MB);
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private interface Request {
+        void execute() throws Exception;
+    }
+
+    private record Measurement(long allocated, long oldGenGrowth) {
+        double perByte(long size) {
+            return (double) allocated / size;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.omni3d.server.loadtest;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/**
+ * 按需生成指定字节数的场景 JSON，不在内存中持有完整场景，用于压测超大场景的上传
+ * <p>
+ * 名称中包含中文与 emoji，覆盖多字节字符与代理对跨分块边界的情况。
+ */
+public class SceneInputStream extends InputStream {
+
+    private static final byte[] HEAD = "{\"version\":\"1.0\",\"objects\":[".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] TAIL = "],\"sceneConfig\":{\"hdr\":\"city\"}}".getBytes(StandardCharsets.UTF_8);
+
+    private final long size;
+    private final Random random;
+    private long emitted;
+    private int index;
+    private byte[] pending = HEAD;
+    private int position;
+
+    public SceneInputStream(long size, long seed) {
+        this.size = size;
+        this.random = new Random(seed);
+    }
+
+    @Override
+    public int read() {
+        byte[] one = new byte[1];
+        return read(one, 0, 1) < 0 ? -1 : one[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+        if (len == 0) {
+            return 0;
+        }
+        int total = 0;
+        while (total < len) {
+            if (position == pending.length && !nextPart()) {
+                break;
+            }
+            int count = Math.min(len - total, pending.length - position);
+            System.arraycopy(pending, position, b, off + total, count);
+            position += count;
+            total += count;
+            emitted += count;
+        }
+        return total == 0 ? -1 : total;
+    }
+
+    private boolean nextPart() {
+        if (pending == TAIL) {
+            return false;
+        }
+        position = 0;
+        if (emitted + TAIL.length >= size && index > 0) {
+            pending = TAIL;
+            return true;
+        }
+        pending = ((index > 0 ? "," : "") + "{\"id\":\"obj-" + index + "\",\"name\":\"设备🚀" + index
+                + "\",\"type\":\"gltf\",\"url\":\"/uploads/model-" + (index % 50) + ".glb\",\"position\":["
+                + random.nextInt(1000) + "," + random.nextInt(1000) + "," + random.nextInt(1000)
+                + "],\"visible\":true}").getBytes(StandardCharsets.UTF_8);
+        index++;
+        return true;
+    }
+}
@@ -0,0 +1,37 @@
+package com.omni3d.server.loadtest;
+
+import lombok.Data;
+
+/**
+ * 测量窗口内被测服务进程的堆与 GC 指标（通过 JMX 采集）
+ */
+@Data
+public class ServerMetrics {
+    private final long gcCount;
+
+    private final long gcTimeMs;
+
+    /**
+     * 单次 GC 的最长耗时
+     */
+    private final long maxGcPauseMs;
+
+    /**
+     * 堆使用峰值：取定时采样的 MemoryMXBean 堆使用量与每次 GC 前堆使用量中的最大值
+     */
+    private final long peakHeapBytes;
+
+    /**
+     * 各次 GC 后堆使用量的最大值，近似存活对象占用；G1 会按最大堆扩展年轻代，峰值主要反映 -Xmx，
+     * 存活对象增长才意味着请求持有的内存变多
+     */
+    private final long liveHeapBytes;
+
+    public double peakHeapMb() {
+        return peakHeapBytes / (1024.0 * 1024.0);
+    }
+
+    public double liveHeapMb() {
+        return liveHeapBytes / (1024.0 * 1024.0);
+    }
+}
@@ -0,0 +1,222 @@
+package com.omni3d.server.loadtest;
+
+import com.omni3d.server.Omni3DApplication;
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+import javax.management.MBeanServerConnection;
+import javax.management.Notification;
+import javax.management.NotificationListener;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.remote.JMXConnector;
+import javax.management.remote.JMXConnectorFactory;
+import javax.management.remote.JMXServiceURL;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 以独立 JVM 启动被测服务（loadtest 配置），并通过 JMX 读取其堆与 GC 指标，
+ * 使压测客户端自身的分配与 GC 不计入服务端结果。日志输出到工作目录下的 server.log。
+ */
+public class ServerProcess implements AutoCloseable {
+
+    private static final long HEAP_SAMPLE_MILLIS = 50;
+
+    private final Process process;
+    private final int httpPort;
+    private final JMXConnector connector;
+    private final MBeanServerConnection connection;
+    private final List<GarbageCollectorMXBean> collectors = new ArrayList<>();
+    private final MemoryMXBean memory;
+    private final Set<String> heapPools = new HashSet<>();
+    private final ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "heap-sampler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicLong peakHeap = new AtomicLong();
+    private final AtomicLong maxPause = new AtomicLong();
+    private final AtomicLong liveHeap = new AtomicLong();
+    private volatile boolean measuring;
+    private long gcCountBefore;
+    private long gcTimeBefore;
+
+    private ServerProcess(Process process, int httpPort, int jmxPort) throws Exception {
+        this.process = process;
+        this.httpPort = httpPort;
+        awaitReady();
+
+        JMXServiceURL url = new JMXServiceURL("service:jmx:rmi:///jndi/rmi://127.0.0.1:" + jmxPort + "/jmxrmi");
+        this.connector = JMXConnectorFactory.connect(url);
+        this.connection = connector.getMBeanServerConnection();
+        this.memory = ManagementFactory.newPlatformMXBeanProxy(
+                connection, ManagementFactory.MEMORY_MXBEAN_NAME, MemoryMXBean.class);
+        for (ObjectName name : connection.queryNames(
+                new ObjectName(ManagementFactory.MEMORY_POOL_MXBEAN_DOMAIN_TYPE + ",*"), null)) {
+            MemoryPoolMXBean pool = ManagementFactory.newPlatformMXBeanProxy(
+                    connection, name.getCanonicalName(), MemoryPoolMXBean.class);
+            if (pool.getType() == MemoryType.HEAP) {
+                heapPools.add(pool.getName());
+            }
+        }
+        NotificationListener pauseListener = this::onGc;
+        for (ObjectName name : connection.queryNames(
+                new ObjectName(ManagementFactory.GARBAGE_COLLECTOR_MXBEAN_DOMAIN_TYPE + ",*"), null)) {
+            collectors.add(ManagementFactory.newPlatformMXBeanProxy(
+                    connection, name.getCanonicalName(), GarbageCollectorMXBean.class));
+            connection.addNotificationListener(name, pauseListener, null, null);
+        }
+        sampler.scheduleAtFixedRate(this::sampleHeap, 0, HEAP_SAMPLE_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 以当前 classpath 启动服务并等待其可以响应请求
+     */
+    public static ServerProcess start(String heap) throws Exception {
+        int httpPort = freePort();
+        int jmxPort = freePort();
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        List<String> command = List.of(
+                java,
+                "-Xmx" + heap,
+                "-XX:+UseG1GC",
+                "-Dcom.sun.management.jmxremote.port=" + jmxPort,
+                "-Dcom.sun.management.jmxremote.rmi.port=" + jmxPort,
+                "-Dcom.sun.management.jmxremote.authenticate=false",
+                "-Dcom.sun.management.jmxremote.ssl=false",
+                "-Dcom.sun.management.jmxremote.host=127.0.0.1",
+                "-Djava.rmi.server.hostname=127.0.0.1",
+                "-classpath", System.getProperty("java.class.path"),
+                Omni3DApplication.class.getName(),
+                "--spring.profiles.active=loadtest",
+                "--server.port=" + httpPort);
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(new File("server.log"))
+                .start();
+        try {
+            return new ServerProcess(process, httpPort, jmxPort);
+        } catch (Exception e) {
+            process.destroyForcibly();
+            throw e;
+        }
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + httpPort;
+    }
+
+    /**
+     * 开始测量窗口：记录 GC 计数基准并清零堆峰值与最长停顿
+     */
+    public void beginMeasurement() {
+        gcCountBefore = collectors.stream().mapToLong(GarbageCollectorMXBean::getCollectionCount).sum();
+        gcTimeBefore = collectors.stream().mapToLong(GarbageCollectorMXBean::getCollectionTime).sum();
+        peakHeap.set(0);
+        maxPause.set(0);
+        liveHeap.set(0);
+        measuring = true;
+        sampleHeap();
+    }
+
+    public ServerMetrics endMeasurement() {
+        sampleHeap();
+        measuring = false;
+        long gcCount = collectors.stream().mapToLong(GarbageCollectorMXBean::getCollectionCount).sum() - gcCountBefore;
+        long gcTime = collectors.stream().mapToLong(GarbageCollectorMXBean::getCollectionTime).sum() - gcTimeBefore;
+        return new ServerMetrics(gcCount, gcTime, maxPause.get(), peakHeap.get(), liveHeap.get());
+    }
+
+    private void sampleHeap() {
+        if (!measuring) {
+            return;
+        }
+        try {
+            peakHeap.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+        } catch (RuntimeException e) {
+            // 服务进程退出时忽略采样失败
+        }
+    }
+
+    private void onGc(Notification notification, Object handback) {
+        if (!measuring || !GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION
+                .equals(notification.getType())) {
+            return;
+        }
+        GarbageCollectionNotificationInfo info =
+                GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+        maxPause.accumulateAndGet(info.getGcInfo().getDuration(), Math::max);
+        // GC 刚结束时堆使用量最低，GC 开始前的使用量才是峰值
+        peakHeap.accumulateAndGet(heapUsed(info.getGcInfo().getMemoryUsageBeforeGc()), Math::max);
+        liveHeap.accumulateAndGet(heapUsed(info.getGcInfo().getMemoryUsageAfterGc()), Math::max);
+    }
+
+    private long heapUsed(Map<String, MemoryUsage> usageByPool) {
+        return usageByPool.entrySet().stream()
+                .filter(entry -> heapPools.contains(entry.getKey()))
+                .mapToLong(entry -> entry.getValue().getUsed())
+                .sum();
+    }
+
+    private void awaitReady() throws Exception {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        HttpRequest probe = HttpRequest.newBuilder(URI.create(baseUrl() + "/api/label-templates")).GET().build();
+        long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(2);
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("服务进程启动失败，退出码 " + process.exitValue() + "，详见 server.log");
+            }
+            try {
+                if (client.send(probe, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // 尚未开始监听
+            }
+            Thread.sleep(200);
+        }
+        throw new IllegalStateException("服务进程在 2 分钟内未就绪，详见 server.log");
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        sampler.shutdownNow();
+        try {
+            connector.close();
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+}
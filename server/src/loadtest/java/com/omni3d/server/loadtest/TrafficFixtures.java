@@ -0,0 +1,115 @@
+package com.omni3d.server.loadtest;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/**
+ * 生成压测用的场景 JSON、GLB 模型与 multipart 请求体
+ */
+public final class TrafficFixtures {
+
+    public static final String BOUNDARY = "----omni3d-loadtest-boundary";
+
+    private static final int GLB_MAGIC = 0x46546C67;
+    private static final int CHUNK_JSON = 0x4E4F534A;
+    private static final int CHUNK_BIN = 0x004E4942;
+
+    private TrafficFixtures() {
+    }
+
+    /**
+     * 生成接近目标大小的场景 JSON，结构与编辑器保存的数据一致
+     */
+    public static byte[] sceneJson(int targetBytes, long seed) {
+        Random random = new Random(seed);
+        StringBuilder sb = new StringBuilder(targetBytes + 1024);
+        sb.append("{\"version\":\"1.0\",\"objects\":[");
+        int i = 0;
+        while (sb.length() < targetBytes) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"id\":\"obj-").append(i)
+                    .append("\",\"name\":\"模型").append(i)
+                    .append("\",\"type\":\"gltf\",\"url\":\"/uploads/model-").append(i % 50).append(".glb\"")
+                    .append(",\"position\":").append(vector(random, 100))
+                    .append(",\"rotation\":").append(vector(random, Math.PI))
+                    .append(",\"scale\":[1,1,1],\"visible\":true")
+                    .append(",\"userData\":{\"label\":\"设备-").append(i)
+                    .append("\",\"dataSourceId\":").append(random.nextInt(20) + 1)
+                    .append(",\"field\":\"temperature\"}}");
+            i++;
+        }
+        sb.append("],\"environment\":{\"hdr\":\"city\",\"intensity\":1.0},")
+                .append("\"postProcessing\":{\"bloom\":true,\"bloomStrength\":0.6}}");
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 生成合法的 GLB 二进制（JSON + BIN 两个 chunk），BIN 内容为随机数据
+     */
+    public static byte[] glb(int binBytes, long seed) {
+        byte[] json = pad("{\"asset\":{\"version\":\"2.0\",\"generator\":\"omni3d-loadtest\"},"
+                + "\"buffers\":[{\"byteLength\":" + binBytes + "}]}", (byte) ' ');
+        int binLength = (binBytes + 3) & ~3;
+        byte[] bin = new byte[binLength];
+        new Random(seed).nextBytes(bin);
+
+        int total = 12 + 8 + json.length + 8 + binLength;
+        ByteBuffer buffer = ByteBuffer.allocate(total).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(GLB_MAGIC).putInt(2).putInt(total);
+        buffer.putInt(json.length).putInt(CHUNK_JSON).put(json);
+        buffer.putInt(binLength).putInt(CHUNK_BIN).put(bin);
+        return buffer.array();
+    }
+
+    /**
+     * 构造 /api/assets/upload 的 multipart 请求体
+     */
+    public static byte[] uploadBody(String name, String categoryId, byte[] model, byte[] thumbnail) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(model.length + thumbnail.length + 1024);
+        writeField(out, "name", name);
+        writeField(out, "categoryId", categoryId);
+        writeFile(out, "file", name + ".glb", "model/gltf-binary", model);
+        writeFile(out, "thumbnail", name + ".png", "image/png", thumbnail);
+        write(out, "--" + BOUNDARY + "--\r\n");
+        return out.toByteArray();
+    }
+
+    private static String vector(Random random, double range) {
+        return String.format("[%.4f,%.4f,%.4f]",
+                (random.nextDouble() * 2 - 1) * range,
+                (random.nextDouble() * 2 - 1) * range,
+                (random.nextDouble() * 2 - 1) * range);
+    }
+
+    private static byte[] pad(String text, byte filler) {
+        byte[] raw = text.getBytes(StandardCharsets.UTF_8);
+        byte[] padded = new byte[(raw.length + 3) & ~3];
+        System.arraycopy(raw, 0, padded, 0, raw.length);
+        for (int i = raw.length; i < padded.length; i++) {
+            padded[i] = filler;
+        }
+        return padded;
+    }
+
+    private static void writeField(ByteArrayOutputStream out, String name, String value) {
+        write(out, "--" + BOUNDARY + "\r\nContent-Disposition: form-data; name=\"" + name + "\"\r\n\r\n"
+                + value + "\r\n");
+    }
+
+    private static void writeFile(ByteArrayOutputStream out, String name, String fileName, String contentType,
+            byte[] content) {
+        write(out, "--" + BOUNDARY + "\r\nContent-Disposition: form-data; name=\"" + name + "\"; filename=\""
+                + fileName + "\"\r\nContent-Type: " + contentType + "\r\n\r\n");
+        out.writeBytes(content);
+        write(out, "\r\n");
+    }
+
+    private static void write(ByteArrayOutputStream out, String text) {
+        out.writeBytes(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
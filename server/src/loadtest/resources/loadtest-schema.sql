@@ -0,0 +1,61 @@
+-- 与 omni3d.sql 保持一致的表结构（去掉 MySQL 专有的表选项）
+CREATE TABLE IF NOT EXISTS `project` (
+    `id` BIGINT AUTO_INCREMENT,
+    `name` VARCHAR(100) NOT NULL,
+    `description` TEXT,
+    `thumbnail` VARCHAR(255),
+    `status` VARCHAR(20) DEFAULT 'draft',
+    `tags` VARCHAR(255),
+    `create_time` DATETIME DEFAULT CURRENT_TIMESTAMP,
+    `update_time` DATETIME DEFAULT CURRENT_TIMESTAMP,
+    `deleted` TINYINT DEFAULT 0,
+    PRIMARY KEY (`id`)
+);
+
+CREATE TABLE IF NOT EXISTS `project_scene_chunk` (
+    `project_id` BIGINT NOT NULL,
+    `seq` INT NOT NULL,
+    `content` MEDIUMTEXT NOT NULL,
+    PRIMARY KEY (`project_id`, `seq`)
+);
+
+CREATE TABLE IF NOT EXISTS `asset` (
+    `id` BIGINT AUTO_INCREMENT,
+    `name` VARCHAR(100) NOT NULL,
+    `type` VARCHAR(50),
+    `url` VARCHAR(255) NOT NULL,
+    `thumbnail` VARCHAR(255),
+    `category_id` VARCHAR(50),
+    `size` BIGINT,
+    `create_time` DATETIME DEFAULT CURRENT_TIMESTAMP,
+    `update_time` DATETIME DEFAULT CURRENT_TIMESTAMP,
+    `deleted` TINYINT DEFAULT 0,
+    PRIMARY KEY (`id`)
+);
+
+CREATE TABLE IF NOT EXISTS `data_source` (
+    `id` BIGINT AUTO_INCREMENT,
+    `name` VARCHAR(100) NOT NULL,
+    `url` VARCHAR(255) NOT NULL,
+    `method` VARCHAR(10) DEFAULT 'GET',
+    `headers` TEXT,
+    `params` TEXT,
+    `config` TEXT,
+    `refresh_interval` INT,
+    `create_time` DATETIME DEFAULT CURRENT_TIMESTAMP,
+    `update_time` DATETIME DEFAULT CURRENT_TIMESTAMP,
+    `deleted` TINYINT DEFAULT 0,
+    PRIMARY KEY (`id`)
+);
+
+CREATE TABLE IF NOT EXISTS `label_template` (
+    `id` BIGINT AUTO_INCREMENT,
+    `name` VARCHAR(100) NOT NULL,
+    `html` TEXT,
+    `css` TEXT,
+    `fields` VARCHAR(255),
+    `create_time` DATETIME DEFAULT CURRENT_TIMESTAMP,
+    `update_time` DATETIME DEFAULT CURRENT_TIMESTAMP,
+    `deleted` TINYINT DEFAULT 0,
+    PRIMARY KEY (`id`)
+);
@@ -0,0 +1,33 @@
+package com.omni3d.server.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+/**
+ * 快速启动模式下连接池不随启动创建，应用就绪后在后台线程预热，避免首个请求承担建连开销
+ */
+@Slf4j
+@Configuration
+@Profile("fast")
+public class DataSourceWarmupConfig {
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp(ApplicationReadyEvent event) {
+        DataSource dataSource = event.getApplicationContext().getBean(DataSource.class);
+        Thread thread = new Thread(() -> {
+            try (Connection connection = dataSource.getConnection()) {
+                log.info("数据库连接池预热完成");
+            } catch (Exception e) {
+                log.warn("数据库连接池预热失败: {}", e.getMessage());
+            }
+        }, "datasource-warmup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+}
@@ -0,0 +1,66 @@
+package com.omni3d.server.config;
+
+import org.mybatis.spring.mapper.MapperFactoryBean;
+import org.mybatis.spring.mapper.MapperScannerConfigurer;
+import org.springframework.beans.factory.aot.BeanRegistrationExcludeFilter;
+import org.springframework.beans.factory.config.ConstructorArgumentValues;
+import org.springframework.beans.factory.config.RuntimeBeanReference;
+import org.springframework.beans.factory.support.MergedBeanDefinitionPostProcessor;
+import org.springframework.beans.factory.support.RegisteredBean;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.ResolvableType;
+
+/**
+ * Spring AOT（fast-startup 构建）下 MyBatis Mapper 的适配，非 AOT 运行时不影响原有行为
+ */
+@Configuration
+public class MyBatisAotConfig {
+
+    @Bean
+    public static MapperFactoryBeanPostProcessor mapperFactoryBeanPostProcessor() {
+        return new MapperFactoryBeanPostProcessor();
+    }
+
+    /**
+     * 扫描生成的 MapperFactoryBean 以类名字符串作为构造参数，并依赖按类型自动装配 sqlSessionTemplate，
+     * AOT 生成的代码不支持这两点；改为 Mapper 接口 Class、声明泛型目标类型并显式引用 sqlSessionTemplate
+     */
+    static class MapperFactoryBeanPostProcessor implements MergedBeanDefinitionPostProcessor {
+
+        @Override
+        public void postProcessMergedBeanDefinition(RootBeanDefinition beanDefinition, Class<?> beanType,
+                String beanName) {
+            if (!Boolean.getBoolean("spring.aot.processing")
+                    || !beanDefinition.hasBeanClass()
+                    || !MapperFactoryBean.class.isAssignableFrom(beanDefinition.getBeanClass())
+                    || !beanDefinition.getResolvableType().hasUnresolvableGenerics()) {
+                return;
+            }
+            Object mapperInterface = beanDefinition.getPropertyValues().get("mapperInterface");
+            if (mapperInterface instanceof Class<?> mapperClass) {
+                ConstructorArgumentValues arguments = new ConstructorArgumentValues();
+                arguments.addGenericArgumentValue(mapperClass);
+                beanDefinition.setConstructorArgumentValues(arguments);
+                beanDefinition.setTargetType(
+                        ResolvableType.forClassWithGenerics(beanDefinition.getBeanClass(), mapperClass));
+            }
+            if (!beanDefinition.getPropertyValues().contains("sqlSessionFactory")
+                    && !beanDefinition.getPropertyValues().contains("sqlSessionTemplate")) {
+                beanDefinition.getPropertyValues().add("sqlSessionTemplate", new RuntimeBeanReference("sqlSessionTemplate"));
+            }
+        }
+    }
+
+    /**
+     * Mapper 的 Bean 定义已由 AOT 预先生成，排除 MapperScannerConfigurer，避免运行时重复扫描注册
+     */
+    public static class MapperScannerExcludeFilter implements BeanRegistrationExcludeFilter {
+
+        @Override
+        public boolean isExcludedFromAotProcessing(RegisteredBean registeredBean) {
+            return MapperScannerConfigurer.class.isAssignableFrom(registeredBean.getBeanClass());
+        }
+    }
+}
@@ -2,14 +2,30 @@ package com.omni3d.server.controller;
 
 import com.baomidou.mybatisplus.core.metadata.IPage;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.omni3d.server.common.Result;
 import com.omni3d.server.entity.Project;
 import com.omni3d.server.service.ProjectService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.FilterWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/projects")
@@ -17,8 +33,12 @@ import java.io.IOException;
 @CrossOrigin // 允许跨域
 public class ProjectController {
 
+    private static final int SCENE_BUFFER_SIZE = 8192;
+
     private final ProjectService projectService;
 
+    private final ObjectMapper objectMapper;
+
     @GetMapping
     public Result<IPage<Project>> list(
             @RequestParam(defaultValue = "1") Integer current,
@@ -34,9 +54,14 @@ public class ProjectController {
     }
 
     @PutMapping("/{id}")
-    public Result<Boolean> update(@PathVariable Long id, @RequestBody Project project) {
+    public Result<Boolean> update(@PathVariable Long id, @RequestBody Project project) throws IOException {
         project.setId(id);
-        return Result.success(projectService.updateById(project));
+        // 兼容旧接口：sceneData 不再是表字段，与项目字段在同一事务中转存为场景分块
+        try {
+            return Result.success(projectService.updateWithScene(project));
+        } catch (IllegalArgumentException e) {
+            return Result.error(e.getMessage());
+        }
     }
 
     @PostMapping("/{id}/thumbnail")
@@ -49,12 +74,148 @@ public class ProjectController {
     }
 
     @GetMapping("/{id}")
-    public Result<Project> getById(@PathVariable Long id) {
-        return Result.success(projectService.getById(id));
+    public Result<Project> getById(@PathVariable Long id) throws IOException {
+        Project project = projectService.getById(id);
+        // 兼容旧接口：完整拼接场景字符串，大场景请使用 /{id}/scene
+        if (project != null) {
+            StringWriter scene = new StringWriter();
+            projectService.writeSceneData(id, scene);
+            project.setSceneData(scene.getBuffer().length() > 0 ? scene.toString() : null);
+        }
+        return Result.success(project);
+    }
+
+    /**
+     * 流式输出场景数据，data 为场景 JSON 原文（无场景时为 null）；客户端接受 gzip 时压缩输出
+     */
+    @GetMapping("/{id}/scene")
+    public void getScene(@PathVariable Long id, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        OutputStream out = gzip
+                ? new GZIPOutputStream(response.getOutputStream(), SCENE_BUFFER_SIZE)
+                : response.getOutputStream();
+        try (Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
+            SceneResultWriter sceneWriter = new SceneResultWriter(writer);
+            if (projectService.writeSceneData(id, sceneWriter)) {
+                sceneWriter.finish();
+            } else {
+                writer.write(objectMapper.writeValueAsString(Result.error("项目不存在")));
+            }
+        }
+    }
+
+    /**
+     * 以请求体中的场景 JSON 原文替换项目场景，支持 Content-Encoding: gzip
+     */
+    @PutMapping("/{id}/scene")
+    public Result<Boolean> saveScene(@PathVariable Long id, HttpServletRequest request) throws IOException {
+        String encoding = request.getHeader(HttpHeaders.CONTENT_ENCODING);
+        boolean gzip = encoding != null && "gzip".equalsIgnoreCase(encoding.trim());
+        try (InputStream in = gzip
+                ? new GZIPInputStream(request.getInputStream(), SCENE_BUFFER_SIZE)
+                : request.getInputStream();
+             Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            if (!projectService.saveSceneData(id, reader)) {
+                return Result.error("项目不存在");
+            }
+            return Result.success(true);
+        } catch (IllegalArgumentException e) {
+            return Result.error(e.getMessage());
+        }
     }
 
     @DeleteMapping("/{id}")
     public Result<Boolean> delete(@PathVariable Long id) {
         return Result.success(projectService.removeById(id));
     }
+
+    /**
+     * 解析 Accept-Encoding：显式列出的 gzip / x-gzip 优先于 *，取其 q 值，大于 0 时才视为接受
+     */
+    private boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.split(";");
+            String coding = parts[0].trim().toLowerCase();
+            boolean gzip = "gzip".equals(coding) || "x-gzip".equals(coding);
+            if (!gzip && !"*".equals(coding)) {
+                continue;
+            }
+            double quality = 1;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim().toLowerCase();
+                if (param.startsWith("q=")) {
+                    try {
+                        quality = Double.parseDouble(param.substring(2));
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (gzip) {
+                gzipQuality = gzipQuality == null ? quality : Math.max(gzipQuality, quality);
+            } else {
+                wildcardQuality = wildcardQuality == null ? quality : Math.max(wildcardQuality, quality);
+            }
+        }
+        Double quality = gzipQuality != null ? gzipQuality : wildcardQuality;
+        return quality != null && quality > 0;
+    }
+
+    /**
+     * 按 Result 结构包装流式输出的场景：首次写入场景内容前输出前缀，结束时补齐 data 与右括号
+     */
+    private static final class SceneResultWriter extends FilterWriter {
+        private static final String PREFIX = "{\"code\":200,\"message\":\"success\",\"data\":";
+
+        private boolean started;
+
+        SceneResultWriter(Writer out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            start();
+            super.write(c);
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            start();
+            super.write(cbuf, off, len);
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            start();
+            super.write(str, off, len);
+        }
+
+        void finish() throws IOException {
+            if (!started) {
+                start();
+                out.write("null");
+            }
+            out.write("}");
+        }
+
+        private void start() throws IOException {
+            if (!started) {
+                started = true;
+                out.write(PREFIX);
+            }
+        }
+    }
 }
@@ -20,7 +20,8 @@ public class Project {
 
     private String tags; // JSON or comma separated string
 
-    private String sceneData; // 场景 JSON 配置文件内容
+    @TableField(exist = false)
+    private String sceneData; // 场景 JSON 配置文件内容，分块存储于 project_scene_chunk
 
     @TableField(fill = FieldFill.INSERT)
     private LocalDateTime createTime;
@@ -8,9 +8,30 @@ import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 
 import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
 
 public interface ProjectService extends IService<Project> {
     IPage<Project> getProjectPage(Page<Project> page, String name);
 
     String uploadThumbnail(Long id, MultipartFile file) throws IOException;
+
+    /**
+     * 旧接口的整体更新：在同一事务中更新项目字段与 sceneData（不为 null 时），sceneData 为空字符串时清空场景
+     * @throws IllegalArgumentException sceneData 不是有效的 JSON 或超过长度上限，此时项目字段同样不会更新
+     */
+    boolean updateWithScene(Project project) throws IOException;
+
+    /**
+     * 按分块顺序将场景 JSON 写出，同一时刻只在内存中持有一个分块；场景为空时不写出任何内容
+     * @return 项目不存在时返回 false，且不写出任何内容
+     */
+    boolean writeSceneData(Long id, Writer out) throws IOException;
+
+    /**
+     * 逐块读取场景 JSON 并替换项目原有的场景分块，读取时校验内容恰好是一个完整的 JSON 值
+     * @return 项目不存在时返回 false
+     * @throws IllegalArgumentException 场景数据为空、不是有效的 JSON 或超过 omni3d.scene.max-chars，此时不修改原有场景
+     */
+    boolean saveSceneData(Long id, Reader in) throws IOException;
 }
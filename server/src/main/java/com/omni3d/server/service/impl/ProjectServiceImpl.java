@@ -1,10 +1,18 @@
 package com.omni3d.server.service.impl;
 
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.omni3d.server.entity.Project;
 import com.omni3d.server.mapper.ProjectMapper;
 import com.omni3d.server.service.ProjectService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.core.metadata.IPage;
@@ -13,15 +21,50 @@ import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 
 import org.springframework.web.multipart.MultipartFile;
 import java.io.File;
+import java.io.FilterReader;
 import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @Service
 public class ProjectServiceImpl extends ServiceImpl<ProjectMapper, Project> implements ProjectService {
+    /**
+     * 每个场景分块的字符数，决定单个请求在堆上持有的场景数据上限
+     */
+    private static final int SCENE_CHUNK_CHARS = 65536;
+
+    private static final String SELECT_SCENE_SQL = "SELECT c.content FROM project p"
+            + " LEFT JOIN project_scene_chunk c ON c.project_id = p.id"
+            + " WHERE p.id = ? AND p.deleted = 0 ORDER BY c.seq";
+    private static final String LOCK_PROJECT_SQL = "SELECT id FROM project WHERE id = ? AND deleted = 0 FOR UPDATE";
+    private static final String DELETE_CHUNKS_SQL = "DELETE FROM project_scene_chunk WHERE project_id = ?";
+    private static final String INSERT_CHUNK_SQL =
+            "INSERT INTO project_scene_chunk (project_id, seq, content) VALUES (?, ?, ?)";
+    private static final String TOUCH_PROJECT_SQL = "UPDATE project SET update_time = ? WHERE id = ?";
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
     private final String uploadDir = System.getProperty("user.dir") + "/uploads/";
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * 单个场景的最大字符数（gzip 解压后），限制单次保存占用行锁与连接的时长以及写入的分块数
+     */
+    @Value("${omni3d.scene.max-chars:67108864}")
+    private long maxSceneChars;
+
     @Override
     public IPage<Project> getProjectPage(Page<Project> page, String name) {
         LambdaQueryWrapper<Project> query = Wrappers.lambdaQuery();
@@ -75,4 +118,200 @@ public class ProjectServiceImpl extends ServiceImpl<ProjectMapper, Project> impl
 
         return url;
     }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public boolean updateWithScene(Project project) throws IOException {
+        if (!this.updateById(project)) {
+            return false;
+        }
+        String sceneData = project.getSceneData();
+        if (sceneData == null) {
+            return true;
+        }
+        if (sceneData.isEmpty()) {
+            jdbcTemplate.update(DELETE_CHUNKS_SQL, project.getId());
+            return true;
+        }
+        return saveSceneData(project.getId(), new StringReader(sceneData));
+    }
+
+    @Override
+    public boolean writeSceneData(Long id, Writer out) throws IOException {
+        try {
+            Boolean found = jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(SELECT_SCENE_SQL,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                // MySQL 驱动只有在 fetchSize 为 Integer.MIN_VALUE 时才逐行读取，否则会缓存所有分块
+                if ("MySQL".equals(con.getMetaData().getDatabaseProductName())) {
+                    ps.setFetchSize(Integer.MIN_VALUE);
+                }
+                ps.setLong(1, id);
+                return ps;
+            }, rs -> {
+                // LEFT JOIN 保证项目存在时至少返回一行，没有分块时 content 为 NULL
+                if (!rs.next()) {
+                    return false;
+                }
+                try {
+                    do {
+                        String chunk = rs.getString(1);
+                        if (chunk != null) {
+                            out.write(chunk);
+                        }
+                    } while (rs.next());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return true;
+            });
+            return Boolean.TRUE.equals(found);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public boolean saveSceneData(Long id, Reader in) throws IOException {
+        // 锁定项目行：确认项目存在，同时串行化同一项目的并发保存
+        List<Long> ids = jdbcTemplate.queryForList(LOCK_PROJECT_SQL, Long.class, id);
+        if (ids.isEmpty()) {
+            return false;
+        }
+        jdbcTemplate.update(DELETE_CHUNKS_SQL, id);
+
+        // 解析器读到的字符原样写入分块，校验与存储只需读取一遍请求体
+        SceneChunkWriter chunks = new SceneChunkWriter(id);
+        try (JsonParser parser = JSON_FACTORY.createParser(new TeeReader(in, chunks, maxSceneChars))) {
+            if (parser.nextToken() == null) {
+                throw new IllegalArgumentException("场景数据不能为空");
+            }
+            parser.skipChildren();
+            // 读到输入结束，确保场景是唯一且完整的 JSON 值
+            if (parser.nextToken() != null) {
+                throw new IllegalArgumentException("场景数据只能包含一个 JSON 值");
+            }
+        } catch (JsonProcessingException e) {
+            JsonLocation location = e.getLocation();
+            throw new IllegalArgumentException(location == null ? "场景数据不是有效的 JSON"
+                    : String.format("场景数据不是有效的 JSON（第 %d 行，第 %d 列）",
+                    location.getLineNr(), location.getColumnNr()));
+        }
+        chunks.flush();
+        jdbcTemplate.update(TOUCH_PROJECT_SQL, Timestamp.valueOf(LocalDateTime.now()), id);
+        return true;
+    }
+
+    /**
+     * 把读取到的字符同时写入 sink，累计超过 maxChars 时拒绝继续读取
+     */
+    private static final class TeeReader extends FilterReader {
+        private final Writer sink;
+        private final long maxChars;
+        private long count;
+
+        TeeReader(Reader in, Writer sink, long maxChars) {
+            super(in);
+            this.sink = sink;
+            this.maxChars = maxChars;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int c = super.read();
+            if (c >= 0) {
+                count(1);
+                sink.write(c);
+            }
+            return c;
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) throws IOException {
+            int read = super.read(cbuf, off, len);
+            if (read > 0) {
+                count(read);
+                sink.write(cbuf, off, read);
+            }
+            return read;
+        }
+
+        private void count(int chars) {
+            count += chars;
+            if (count > maxChars) {
+                throw new IllegalArgumentException("场景数据超过 " + maxChars + " 字符上限");
+            }
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            throw new IOException("skip not supported");
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+
+    /**
+     * 按 SCENE_CHUNK_CHARS 切分写入的字符并逐块插入 project_scene_chunk，同一时刻只持有一个分块
+     */
+    private final class SceneChunkWriter extends Writer {
+        private final Long projectId;
+        private final char[] buffer = new char[SCENE_CHUNK_CHARS];
+        private int length;
+        private int seq;
+
+        SceneChunkWriter(Long projectId) {
+            this.projectId = projectId;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            while (len > 0) {
+                int n = Math.min(len, buffer.length - length);
+                System.arraycopy(cbuf, off, buffer, length, n);
+                length += n;
+                off += n;
+                len -= n;
+                if (length == buffer.length) {
+                    writeChunk();
+                }
+            }
+        }
+
+        /**
+         * 写出缓冲区中剩余的字符
+         */
+        @Override
+        public void flush() {
+            if (length > 0) {
+                insert(length);
+                length = 0;
+            }
+        }
+
+        @Override
+        public void close() {
+            flush();
+        }
+
+        private void writeChunk() {
+            // 不在代理对中间切分，否则高位代理单独写入 utf8mb4 列会损坏字符
+            boolean splitsPair = Character.isHighSurrogate(buffer[length - 1]);
+            insert(splitsPair ? length - 1 : length);
+            if (splitsPair) {
+                buffer[0] = buffer[length - 1];
+                length = 1;
+            } else {
+                length = 0;
+            }
+        }
+
+        private void insert(int chars) {
+            jdbcTemplate.update(INSERT_CHUNK_SQL, projectId, seq++, new String(buffer, 0, chars));
+        }
+    }
 }